@@ -0,0 +1,184 @@
+package graph;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @author Manoj Khanna
+ */
+
+public class ConcurrentGraph<E, W> {
+
+    public final ConcurrentHashMap<Integer, Vertex<E, W>> vertexMap;
+
+    public ConcurrentGraph() {
+        vertexMap = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder string = new StringBuilder();
+
+        for (Vertex<E, W> vertex : vertexMap.values()) {
+            if (string.length() > 0) {
+                string.append("\n");
+            }
+
+            string.append(vertex);
+        }
+
+        return string.toString();
+    }
+
+    public void addVertex(int u, E e) {
+        vertexMap.putIfAbsent(u, new Vertex<>(u, e));
+    }
+
+    public void removeVertex(int u) {
+        Vertex<E, W> vertex = vertexMap.remove(u);
+
+        if (vertex != null) {
+            for (Integer v : vertex.edgeMap.keySet()) {
+                removeEdge(v, u);
+            }
+        }
+    }
+
+    public void addEdge(int u, int v, W w) {
+        vertexMap.computeIfPresent(u, (k, vertex) -> {
+            vertex.edgeMap.put(v, new Graph.Edge<>(v, w));
+
+            return vertex;
+        });
+    }
+
+    public void removeEdge(int u, int v) {
+        vertexMap.computeIfPresent(u, (k, vertex) -> {
+            vertex.edgeMap.remove(v);
+
+            return vertex;
+        });
+    }
+
+    public boolean contains(int u) {
+        return vertexMap.containsKey(u);
+    }
+
+    public E get(int u) {
+        Vertex<E, W> vertex = vertexMap.get(u);
+
+        if (vertex != null) {
+            return vertex.e;
+        }
+
+        return null;
+    }
+
+    public void set(int u, E e) {
+        Vertex<E, W> vertex = vertexMap.get(u);
+
+        if (vertex != null) {
+            vertex.e = e;
+        }
+    }
+
+    public W getWeight(int u, int v) {
+        Vertex<E, W> vertex = vertexMap.get(u);
+
+        if (vertex != null) {
+            Graph.Edge<W> edge = vertex.edgeMap.get(v);
+
+            if (edge != null) {
+                return edge.w;
+            }
+        }
+
+        return null;
+    }
+
+    public void setWeight(int u, int v, W w) {
+        Vertex<E, W> vertex = vertexMap.get(u);
+
+        if (vertex != null) {
+            vertex.edgeMap.computeIfPresent(v, (k, edge) -> new Graph.Edge<>(v, w));
+        }
+    }
+
+    public static class Vertex<E, W> {
+
+        public final int u;
+        public final ConcurrentHashMap<Integer, Graph.Edge<W>> edgeMap;
+
+        public volatile E e;
+
+        public Vertex(int u, E e) {
+            this.u = u;
+            this.e = e;
+
+            edgeMap = new ConcurrentHashMap<>();
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder string = new StringBuilder();
+
+            for (Graph.Edge<W> edge : edgeMap.values()) {
+                if (string.length() > 0) {
+                    string.append(", ");
+                }
+
+                string.append(edge);
+            }
+
+            return u + "(" + e + ") -> " + string.toString();
+        }
+
+    }
+
+    private static class Example {
+
+        public static void main(String[] args) throws InterruptedException {
+            System.out.println("Concurrent Graph Example:");
+            System.out.println("");
+
+            ConcurrentGraph<Character, Integer> concurrentGraph = new ConcurrentGraph<>();
+
+            for (int i = 0; i < 5; i++) {
+                concurrentGraph.addVertex(i, (char) ('a' + i));
+            }
+
+            Thread[] threads = new Thread[4];
+
+            for (int i = 0; i < threads.length; i++) {
+                int u = i;
+
+                threads[i] = new Thread(() -> {
+                    for (int v = 0; v < 5; v++) {
+                        if (v != u) {
+                            concurrentGraph.addEdge(u, v, 10 * u + v);
+                        }
+                    }
+                });
+
+                threads[i].start();
+            }
+
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            System.out.println("addEdge(...) from 4 threads:\n" + concurrentGraph);
+            System.out.println("");
+
+            concurrentGraph.removeVertex(1);
+
+            System.out.println("removeVertex(1):\n" + concurrentGraph);
+            System.out.println("");
+
+            concurrentGraph.setWeight(0, 3, 80);
+
+            System.out.println("setWeight(0, 3, 80):\n" + concurrentGraph);
+        }
+
+    }
+
+}
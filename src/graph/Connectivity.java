@@ -0,0 +1,265 @@
+package graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * @author Manoj Khanna
+ */
+
+public class Connectivity<E, W> {
+
+    public final Graph<E, W> graph;
+
+    public int n, c;
+    public int[] ids, parent;
+    public byte[] rank;
+    public boolean dirty;
+
+    public final HashMap<Integer, ArrayList<Integer>> danglingMap;
+
+    private int[] keys, values;
+
+    public Connectivity(Graph<E, W> graph) {
+        this.graph = graph;
+
+        danglingMap = new HashMap<>();
+
+        rebuild();
+    }
+
+    @Override
+    public String toString() {
+        rebuildIfDirty();
+
+        StringBuilder string = new StringBuilder();
+
+        for (int i = 0; i < n; i++) {
+            if (i > 0) {
+                string.append(", ");
+            }
+
+            string.append(ids[i]).append("(").append(ids[find(i)]).append(")");
+        }
+
+        return string.toString();
+    }
+
+    public void rebuild() {
+        n = c = 0;
+        ids = new int[Math.max(graph.vertexMap.size(), 16)];
+        parent = new int[ids.length];
+        rank = new byte[ids.length];
+        keys = new int[4 * Integer.highestOneBit(ids.length)];
+        values = new int[keys.length];
+        dirty = false;
+
+        danglingMap.clear();
+
+        Arrays.fill(values, -1);
+
+        for (int u : graph.vertexMap.keySet()) {
+            addVertex(u);
+        }
+
+        for (Graph.Vertex<E, W> vertex : graph.vertexMap.values()) {
+            for (int v : vertex.edgeMap.keySet()) {
+                addEdge(vertex.u, v);
+            }
+        }
+    }
+
+    public void invalidate() {
+        dirty = true;
+    }
+
+    public void addVertex(int u) {
+        if (dirty || slot(u) >= 0) {
+            return;
+        }
+
+        if (n == ids.length) {
+            ids = Arrays.copyOf(ids, 2 * n);
+            parent = Arrays.copyOf(parent, 2 * n);
+            rank = Arrays.copyOf(rank, 2 * n);
+        }
+
+        if (2 * (n + 1) > keys.length) {
+            int[] keys = this.keys, values = this.values;
+
+            this.keys = new int[2 * keys.length];
+            this.values = new int[2 * keys.length];
+
+            Arrays.fill(this.values, -1);
+
+            for (int k = 0; k < keys.length; k++) {
+                if (values[k] >= 0) {
+                    put(keys[k], values[k]);
+                }
+            }
+        }
+
+        ids[n] = u;
+        parent[n] = n;
+        rank[n] = 0;
+
+        put(u, n);
+
+        n++;
+        c++;
+
+        ArrayList<Integer> us = danglingMap.remove(u);
+
+        if (us != null) {
+            for (int v : us) {
+                union(slot(v), n - 1);
+            }
+        }
+    }
+
+    public void addEdge(int u, int v) {
+        if (dirty) {
+            return;
+        }
+
+        int i = slot(u), j = slot(v);
+
+        if (i >= 0 && j >= 0) {
+            union(i, j);
+        } else if (i >= 0) {
+            danglingMap.computeIfAbsent(v, k -> new ArrayList<>()).add(u);
+        }
+    }
+
+    public boolean connected(int u, int v) {
+        rebuildIfDirty();
+
+        int i = slot(u), j = slot(v);
+
+        return i >= 0 && j >= 0 && find(i) == find(j);
+    }
+
+    public int componentOf(int u) {
+        rebuildIfDirty();
+
+        int i = slot(u);
+
+        return i >= 0 ? ids[find(i)] : -1;
+    }
+
+    public int components() {
+        rebuildIfDirty();
+
+        return c;
+    }
+
+    private void rebuildIfDirty() {
+        if (dirty) {
+            rebuild();
+        }
+    }
+
+    private int find(int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+
+        return i;
+    }
+
+    private void union(int i, int j) {
+        i = find(i);
+        j = find(j);
+
+        if (i == j) {
+            return;
+        }
+
+        if (rank[i] < rank[j]) {
+            parent[i] = j;
+        } else if (rank[i] > rank[j]) {
+            parent[j] = i;
+        } else {
+            parent[j] = i;
+            rank[i]++;
+        }
+
+        c--;
+    }
+
+    private int hash(int u) {
+        int h = u * 0x9e3779b9;
+
+        return (h ^ h >>> 16) & (keys.length - 1);
+    }
+
+    private int slot(int u) {
+        for (int k = hash(u); values[k] >= 0; k = (k + 1) & (keys.length - 1)) {
+            if (keys[k] == u) {
+                return values[k];
+            }
+        }
+
+        return -1;
+    }
+
+    private void put(int u, int i) {
+        int k = hash(u);
+
+        while (values[k] >= 0) {
+            k = (k + 1) & (keys.length - 1);
+        }
+
+        keys[k] = u;
+        values[k] = i;
+    }
+
+    private static class Example {
+
+        public static void main(String[] args) {
+            System.out.println("Connectivity Example:");
+            System.out.println("");
+
+            Graph<Character, Integer> graph = new Graph<>();
+
+            for (int i = 0; i < 6; i++) {
+                graph.addVertex(i, (char) ('a' + i));
+            }
+
+            Connectivity<Character, Integer> connectivity = graph.connectivity();
+
+            graph.addEdge(0, 1, null);
+            graph.addEdge(2, 1, null);
+            graph.addEdge(3, 4, null);
+
+            System.out.println("addEdge(...): " + connectivity);
+            System.out.println("");
+
+            System.out.println("connected(0, 2): " + connectivity.connected(0, 2));
+            System.out.println("");
+
+            System.out.println("connected(0, 3): " + connectivity.connected(0, 3));
+            System.out.println("");
+
+            System.out.println("components(): " + connectivity.components());
+            System.out.println("");
+
+            graph.removeEdge(2, 1);
+
+            System.out.println("removeEdge(2, 1): " + connectivity);
+            System.out.println("");
+
+            System.out.println("componentOf(2): " + connectivity.componentOf(2));
+            System.out.println("");
+
+            graph.addEdge(5, 6, null);
+            graph.addVertex(6, 'g');
+
+            System.out.println("addEdge(5, 6), addVertex(6): " + connectivity + ", dirty: " + connectivity.dirty);
+        }
+
+    }
+
+}
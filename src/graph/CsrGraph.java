@@ -0,0 +1,285 @@
+package graph;
+
+import java.util.Arrays;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * @author Manoj Khanna
+ */
+
+public class CsrGraph<E, W> {
+
+    public final int n, m;
+    public final int[] ids, offsets, targets;
+    public final Object[] es, ws;
+    public final double[] dws;
+
+    public CsrGraph(Graph<E, W> graph, ToDoubleFunction<W> weightFunction) {
+        n = graph.vertexMap.size();
+        ids = new int[n];
+
+        int i = 0;
+
+        for (int u : graph.vertexMap.keySet()) {
+            ids[i++] = u;
+        }
+
+        Arrays.sort(ids);
+
+        es = new Object[n];
+        offsets = new int[n + 1];
+
+        int d = 0;
+
+        for (i = 0; i < n; i++) {
+            Graph.Vertex<E, W> vertex = graph.vertexMap.get(ids[i]);
+
+            es[i] = vertex.e;
+
+            int c = 0;
+
+            for (int v : vertex.edgeMap.keySet()) {
+                if (index(v) >= 0) {
+                    c++;
+                }
+            }
+
+            offsets[i + 1] = offsets[i] + c;
+            d = Math.max(d, c);
+        }
+
+        m = offsets[n];
+        targets = new int[m];
+
+        if (weightFunction != null) {
+            ws = null;
+            dws = new double[m];
+        } else {
+            ws = new Object[m];
+            dws = null;
+        }
+
+        int[] row = new int[d];
+
+        for (i = 0; i < n; i++) {
+            Graph.Vertex<E, W> vertex = graph.vertexMap.get(ids[i]);
+
+            int c = 0;
+
+            for (int v : vertex.edgeMap.keySet()) {
+                int j = index(v);
+
+                if (j >= 0) {
+                    row[c++] = j;
+                }
+            }
+
+            Arrays.sort(row, 0, c);
+
+            for (int k = 0; k < c; k++) {
+                int l = offsets[i] + k;
+                W w = vertex.edgeMap.get(ids[row[k]]).w;
+
+                targets[l] = row[k];
+
+                if (weightFunction != null) {
+                    dws[l] = weightFunction.applyAsDouble(w);
+                } else {
+                    ws[l] = w;
+                }
+            }
+        }
+    }
+
+    public CsrGraph(Graph<E, W> graph) {
+        this(graph, null);
+    }
+
+    CsrGraph(int[] ids, Object[] es, int[] offsets, int[] targets, Object[] ws, double[] dws) {
+        this.ids = ids;
+        this.es = es;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.ws = ws;
+        this.dws = dws;
+
+        n = ids.length;
+        m = targets.length;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder string = new StringBuilder();
+
+        for (int i = 0; i < n; i++) {
+            if (i > 0) {
+                string.append("\n");
+            }
+
+            string.append(ids[i]).append("(").append(es[i]).append(") -> ");
+
+            for (int k = offsets[i]; k < offsets[i + 1]; k++) {
+                if (k > offsets[i]) {
+                    string.append(", ");
+                }
+
+                string.append(ids[targets[k]]);
+
+                Object w = ws != null ? ws[k] : dws != null ? dws[k] : null;
+
+                if (w != null) {
+                    string.append("(").append(w).append(")");
+                }
+            }
+        }
+
+        return string.toString();
+    }
+
+    public int index(int u) {
+        int i = Arrays.binarySearch(ids, u);
+
+        return i >= 0 ? i : -1;
+    }
+
+    public int edgeIndex(int i, int j) {
+        int k = Arrays.binarySearch(targets, offsets[i], offsets[i + 1], j);
+
+        return k >= 0 ? k : -1;
+    }
+
+    public int degree(int i) {
+        return offsets[i + 1] - offsets[i];
+    }
+
+    public CsrGraph<E, W> reverse() {
+        int[] offsets = new int[n + 1];
+
+        for (int k = 0; k < m; k++) {
+            offsets[this.targets[k] + 1]++;
+        }
+
+        for (int i = 0; i < n; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+
+        int[] targets = new int[m], positions = Arrays.copyOf(offsets, n);
+        Object[] ws = this.ws != null ? new Object[m] : null;
+        double[] dws = this.dws != null ? new double[m] : null;
+
+        for (int i = 0; i < n; i++) {
+            for (int k = this.offsets[i]; k < this.offsets[i + 1]; k++) {
+                int l = positions[this.targets[k]]++;
+
+                targets[l] = i;
+
+                if (ws != null) {
+                    ws[l] = this.ws[k];
+                } else if (dws != null) {
+                    dws[l] = this.dws[k];
+                }
+            }
+        }
+
+        return new CsrGraph<>(ids, es, offsets, targets, ws, dws);
+    }
+
+    public boolean objectWeighted() {
+        if (ws != null) {
+            for (Object w : ws) {
+                if (w != null) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    public boolean contains(int u) {
+        return index(u) >= 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public E get(int u) {
+        int i = index(u);
+
+        if (i >= 0) {
+            return (E) es[i];
+        }
+
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public W getWeight(int u, int v) {
+        int i = index(u), j = index(v);
+
+        if (ws != null && i >= 0 && j >= 0) {
+            int k = edgeIndex(i, j);
+
+            if (k >= 0) {
+                return (W) ws[k];
+            }
+        }
+
+        return null;
+    }
+
+    public double getDoubleWeight(int u, int v) {
+        int i = index(u), j = index(v);
+
+        if (dws != null && i >= 0 && j >= 0) {
+            int k = edgeIndex(i, j);
+
+            if (k >= 0) {
+                return dws[k];
+            }
+        }
+
+        return Double.NaN;
+    }
+
+    private static class Example {
+
+        public static void main(String[] args) {
+            System.out.println("CSR Graph Example:");
+            System.out.println("");
+
+            Graph<Character, Integer> graph = new Graph<>();
+
+            for (int i = 0; i < 5; i++) {
+                graph.addVertex(10 * i, (char) ('a' + i));
+            }
+
+            graph.addEdge(0, 10, 10);
+            graph.addEdge(0, 30, 40);
+            graph.addEdge(10, 20, 20);
+            graph.addEdge(20, 20, 30);
+            graph.addEdge(30, 0, null);
+
+            CsrGraph<Character, Integer> csrGraph = graph.freeze();
+
+            System.out.println("freeze():\n" + csrGraph);
+            System.out.println("");
+
+            System.out.println("index(30): " + csrGraph.index(30));
+            System.out.println("");
+
+            System.out.println("getWeight(0, 30): " + csrGraph.getWeight(0, 30));
+            System.out.println("");
+
+            System.out.println("reverse():\n" + csrGraph.reverse());
+            System.out.println("");
+
+            CsrGraph<Character, Integer> doubleCsrGraph = graph.freeze(w -> w != null ? w : 1.0);
+
+            System.out.println("freeze(w -> w != null ? w : 1.0):\n" + doubleCsrGraph);
+            System.out.println("");
+
+            System.out.println("getDoubleWeight(30, 0): " + doubleCsrGraph.getDoubleWeight(30, 0));
+        }
+
+    }
+
+}
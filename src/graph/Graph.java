@@ -1,6 +1,9 @@
 package graph;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.function.ToDoubleFunction;
 
 /**
  * @author Manoj Khanna
@@ -8,10 +11,21 @@ import java.util.HashMap;
 
 public class Graph<E, W> {
 
+    public final boolean indexed;
     public final HashMap<Integer, Vertex<E, W>> vertexMap;
+    public final HashMap<Integer, HashSet<Integer>> pendingInEdgeMap;
+
+    public Connectivity<E, W> connectivity;
+
+    public Graph(boolean indexed) {
+        this.indexed = indexed;
 
-    public Graph() {
         vertexMap = new HashMap<>();
+        pendingInEdgeMap = indexed ? new HashMap<>() : null;
+    }
+
+    public Graph() {
+        this(false);
     }
 
     @Override
@@ -31,14 +45,42 @@ public class Graph<E, W> {
 
     public void addVertex(int u, E e) {
         if (!vertexMap.containsKey(u)) {
-            vertexMap.put(u, new Vertex<>(u, e));
+            Vertex<E, W> vertex = new Vertex<>(u, e, indexed);
+
+            if (indexed && pendingInEdgeMap.containsKey(u)) {
+                vertex.inEdgeSet.addAll(pendingInEdgeMap.remove(u));
+            }
+
+            vertexMap.put(u, vertex);
+
+            if (connectivity != null) {
+                connectivity.addVertex(u);
+            }
         }
     }
 
     public void removeVertex(int u) {
         if (vertexMap.containsKey(u)) {
-            for (Integer v : vertexMap.remove(u).edgeMap.keySet()) {
-                removeEdge(v, u);
+            Vertex<E, W> vertex = vertexMap.remove(u);
+
+            if (connectivity != null) {
+                connectivity.invalidate();
+            }
+
+            if (indexed) {
+                for (Integer v : vertex.edgeMap.keySet()) {
+                    removeInEdge(u, v);
+                }
+
+                for (Integer v : vertex.inEdgeSet) {
+                    if (vertexMap.containsKey(v)) {
+                        vertexMap.get(v).edgeMap.remove(u);
+                    }
+                }
+            } else {
+                for (Integer v : vertex.edgeMap.keySet()) {
+                    removeEdge(v, u);
+                }
             }
         }
     }
@@ -46,12 +88,48 @@ public class Graph<E, W> {
     public void addEdge(int u, int v, W w) {
         if (vertexMap.containsKey(u)) {
             vertexMap.get(u).edgeMap.put(v, new Edge<>(v, w));
+
+            if (indexed) {
+                addInEdge(u, v);
+            }
+
+            if (connectivity != null) {
+                connectivity.addEdge(u, v);
+            }
         }
     }
 
     public void removeEdge(int u, int v) {
-        if (vertexMap.containsKey(u)) {
-            vertexMap.get(u).edgeMap.remove(v);
+        if (vertexMap.containsKey(u) && vertexMap.get(u).edgeMap.remove(v) != null) {
+            if (indexed) {
+                removeInEdge(u, v);
+            }
+
+            if (connectivity != null) {
+                connectivity.invalidate();
+            }
+        }
+    }
+
+    void addInEdge(int u, int v) {
+        if (vertexMap.containsKey(v)) {
+            vertexMap.get(v).inEdgeSet.add(u);
+        } else {
+            pendingInEdgeMap.computeIfAbsent(v, k -> new HashSet<>()).add(u);
+        }
+    }
+
+    private void removeInEdge(int u, int v) {
+        if (vertexMap.containsKey(v)) {
+            vertexMap.get(v).inEdgeSet.remove(u);
+        } else if (pendingInEdgeMap.containsKey(v)) {
+            HashSet<Integer> inEdgeSet = pendingInEdgeMap.get(v);
+
+            inEdgeSet.remove(u);
+
+            if (inEdgeSet.isEmpty()) {
+                pendingInEdgeMap.remove(v);
+            }
         }
     }
 
@@ -59,6 +137,52 @@ public class Graph<E, W> {
         return vertexMap.containsKey(u);
     }
 
+    public int inDegree(int u) {
+        if (indexed && vertexMap.containsKey(u)) {
+            return vertexMap.get(u).inEdgeSet.size();
+        }
+
+        return predecessors(u).length;
+    }
+
+    public int[] predecessors(int u) {
+        if (!vertexMap.containsKey(u)) {
+            return new int[0];
+        }
+
+        if (indexed) {
+            int[] predecessors = new int[vertexMap.get(u).inEdgeSet.size()];
+
+            int i = 0;
+
+            for (int v : vertexMap.get(u).inEdgeSet) {
+                predecessors[i++] = v;
+            }
+
+            return predecessors;
+        }
+
+        int c = 0;
+
+        for (Vertex<E, W> vertex : vertexMap.values()) {
+            if (vertex.edgeMap.containsKey(u)) {
+                c++;
+            }
+        }
+
+        int[] predecessors = new int[c];
+
+        int i = 0;
+
+        for (Vertex<E, W> vertex : vertexMap.values()) {
+            if (vertex.edgeMap.containsKey(u)) {
+                predecessors[i++] = vertex.u;
+            }
+        }
+
+        return predecessors;
+    }
+
     public E get(int u) {
         if (vertexMap.containsKey(u)) {
             return vertexMap.get(u).e;
@@ -95,18 +219,47 @@ public class Graph<E, W> {
         }
     }
 
+    public Connectivity<E, W> connectivity() {
+        if (connectivity == null) {
+            connectivity = new Connectivity<>(this);
+        }
+
+        return connectivity;
+    }
+
+    public CsrGraph<E, W> freeze() {
+        return new CsrGraph<>(this);
+    }
+
+    public CsrGraph<E, W> freeze(ToDoubleFunction<W> weightFunction) {
+        return new CsrGraph<>(this, weightFunction);
+    }
+
     public static class Vertex<E, W> {
 
         public final int u;
-        public final HashMap<Integer, Edge<W>> edgeMap;
+        public final HashSet<Integer> inEdgeSet;
 
+        public HashMap<Integer, Edge<W>> edgeMap;
         public E e;
 
-        public Vertex(int u, E e) {
+        public Vertex(int u, E e, boolean indexed) {
             this.u = u;
             this.e = e;
 
             edgeMap = new HashMap<>();
+            inEdgeSet = indexed ? new HashSet<>() : null;
+        }
+
+        public Vertex(int u, E e) {
+            this(u, e, false);
+        }
+
+        void ensureCapacity(int c) {
+            HashMap<Integer, Edge<W>> edgeMap = new HashMap<>((int) (c / 0.75f) + 1);
+            edgeMap.putAll(this.edgeMap);
+
+            this.edgeMap = edgeMap;
         }
 
         @Override
@@ -195,6 +348,48 @@ public class Graph<E, W> {
             graph.setWeight(0, 3, 80);
 
             System.out.println("setWeight(0, 3, 80):\n" + graph);
+            System.out.println("");
+
+            Graph<Character, Integer> indexedGraph = new Graph<>(true);
+
+            for (int i = 0; i < 5; i++) {
+                indexedGraph.addVertex(i, (char) ('a' + i));
+            }
+
+            indexedGraph.addEdge(0, 2, 10);
+            indexedGraph.addEdge(1, 2, 20);
+            indexedGraph.addEdge(2, 3, 30);
+            indexedGraph.addEdge(4, 2, 40);
+
+            System.out.println("Graph(true), addEdge(...):\n" + indexedGraph);
+            System.out.println("");
+
+            System.out.println("inDegree(2): " + indexedGraph.inDegree(2));
+            System.out.println("");
+
+            System.out.println("predecessors(2): " + Arrays.toString(indexedGraph.predecessors(2)));
+            System.out.println("");
+
+            indexedGraph.removeVertex(2);
+
+            System.out.println("removeVertex(2):\n" + indexedGraph);
+            System.out.println("");
+
+            Graph<Character, Integer> pendingGraph = new Graph<>(true);
+
+            pendingGraph.addVertex(0, 'a');
+            pendingGraph.addEdge(0, 1, 10);
+            pendingGraph.addVertex(1, 'b');
+
+            System.out.println("Graph(true), addVertex(0), addEdge(0, 1), addVertex(1):\n" + pendingGraph);
+            System.out.println("");
+
+            System.out.println("predecessors(1): " + Arrays.toString(pendingGraph.predecessors(1)));
+            System.out.println("");
+
+            pendingGraph.removeVertex(1);
+
+            System.out.println("removeVertex(1):\n" + pendingGraph);
         }
 
     }
@@ -0,0 +1,231 @@
+package graph;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * @author Manoj Khanna
+ */
+
+public class GraphLoader<E, W> {
+
+    private static final int DEFAULT_EDGE_MAP_ENTRIES = 12;
+
+    public final Graph<E, W> graph;
+    public final ForkJoinPool pool;
+    public final int c;
+
+    public GraphLoader(Graph<E, W> graph, ForkJoinPool pool, int c) {
+        this.graph = graph;
+        this.pool = pool;
+        this.c = c;
+    }
+
+    public GraphLoader(Graph<E, W> graph, ForkJoinPool pool) {
+        this(graph, pool, 1 << 20);
+    }
+
+    public GraphLoader(Graph<E, W> graph) {
+        this(graph, null);
+    }
+
+    public void addEdges(int[] us, int[] vs, W[] ws) {
+        addEdges(us, vs, ws, us.length);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> void addEdges(Iterator<T> iterator, ToIntFunction<T> uFunction, ToIntFunction<T> vFunction,
+                             Function<T, W> wFunction) {
+        int l = Math.min(c, 16);
+        int[] us = new int[l], vs = new int[l];
+        W[] ws = (W[]) new Object[l];
+
+        int n = 0;
+
+        while (iterator.hasNext()) {
+            T t = iterator.next();
+
+            if (n == c) {
+                addEdges(us, vs, ws, n);
+
+                n = 0;
+            } else if (n == us.length) {
+                l = (int) Math.min(2L * n, c);
+
+                us = Arrays.copyOf(us, l);
+                vs = Arrays.copyOf(vs, l);
+                ws = Arrays.copyOf(ws, l);
+            }
+
+            us[n] = uFunction.applyAsInt(t);
+            vs[n] = vFunction.applyAsInt(t);
+            ws[n] = wFunction.apply(t);
+
+            n++;
+        }
+
+        addEdges(us, vs, ws, n);
+    }
+
+    private void addEdges(int[] us, int[] vs, W[] ws, int n) {
+        if (n == 0) {
+            return;
+        }
+
+        long[] keys = sortedKeys(us, n);
+        int[] starts = groupStarts(keys);
+        int g = starts.length - 1;
+
+        @SuppressWarnings("unchecked")
+        Graph.Vertex<E, W>[] vertices = (Graph.Vertex<E, W>[]) new Graph.Vertex<?, ?>[g];
+
+        for (int i = 0; i < g; i++) {
+            int u = (int) (keys[starts[i]] >> 32);
+            Graph.Vertex<E, W> vertex = graph.vertexMap.get(u);
+
+            if (vertex != null && vertex.edgeMap.isEmpty() && starts[i + 1] - starts[i] > DEFAULT_EDGE_MAP_ENTRIES) {
+                vertex.ensureCapacity(starts[i + 1] - starts[i]);
+            }
+
+            vertices[i] = vertex;
+        }
+
+        forEach(g, i -> {
+            Graph.Vertex<E, W> vertex = vertices[i];
+
+            if (vertex != null) {
+                for (int k = starts[i]; k < starts[i + 1]; k++) {
+                    int j = (int) keys[k];
+
+                    vertex.edgeMap.put(vs[j], new Graph.Edge<>(vs[j], ws != null ? ws[j] : null));
+                }
+            }
+        });
+
+        if (graph.indexed) {
+            long[] inKeys = sortedKeys(vs, n);
+            int[] inStarts = groupStarts(inKeys);
+
+            forEach(inStarts.length - 1, i -> {
+                Graph.Vertex<E, W> vertex = graph.vertexMap.get((int) (inKeys[inStarts[i]] >> 32));
+
+                if (vertex != null) {
+                    for (int k = inStarts[i]; k < inStarts[i + 1]; k++) {
+                        int u = us[(int) inKeys[k]];
+
+                        if (graph.vertexMap.containsKey(u)) {
+                            vertex.inEdgeSet.add(u);
+                        }
+                    }
+                }
+            });
+
+            for (int i = 0; i < inStarts.length - 1; i++) {
+                int v = (int) (inKeys[inStarts[i]] >> 32);
+
+                if (!graph.vertexMap.containsKey(v)) {
+                    for (int k = inStarts[i]; k < inStarts[i + 1]; k++) {
+                        int u = us[(int) inKeys[k]];
+
+                        if (graph.vertexMap.containsKey(u)) {
+                            graph.addInEdge(u, v);
+                        }
+                    }
+                }
+            }
+        }
+
+        if (graph.connectivity != null) {
+            for (int k = 0; k < n; k++) {
+                if (graph.vertexMap.containsKey(us[k])) {
+                    graph.connectivity.addEdge(us[k], vs[k]);
+                }
+            }
+        }
+    }
+
+    private long[] sortedKeys(int[] us, int n) {
+        long[] keys = new long[n];
+
+        for (int k = 0; k < n; k++) {
+            keys[k] = (long) us[k] << 32 | k;
+        }
+
+        if (pool != null) {
+            Arrays.parallelSort(keys);
+        } else {
+            Arrays.sort(keys);
+        }
+
+        return keys;
+    }
+
+    private int[] groupStarts(long[] keys) {
+        int g = 1;
+
+        for (int k = 1; k < keys.length; k++) {
+            if (keys[k] >> 32 != keys[k - 1] >> 32) {
+                g++;
+            }
+        }
+
+        int[] starts = new int[g + 1];
+
+        for (int k = 1, i = 1; k < keys.length; k++) {
+            if (keys[k] >> 32 != keys[k - 1] >> 32) {
+                starts[i++] = k;
+            }
+        }
+
+        starts[g] = keys.length;
+
+        return starts;
+    }
+
+    private void forEach(int g, IntConsumer consumer) {
+        if (pool != null) {
+            pool.submit(() -> IntStream.range(0, g).parallel().forEach(consumer)).join();
+        } else {
+            for (int i = 0; i < g; i++) {
+                consumer.accept(i);
+            }
+        }
+    }
+
+    private static class Example {
+
+        public static void main(String[] args) {
+            System.out.println("Graph Loader Example:");
+            System.out.println("");
+
+            Graph<Character, Integer> graph = new Graph<>(true);
+
+            for (int i = 0; i < 5; i++) {
+                graph.addVertex(i, (char) ('a' + i));
+            }
+
+            GraphLoader<Character, Integer> graphLoader = new GraphLoader<>(graph, ForkJoinPool.commonPool());
+
+            graphLoader.addEdges(new int[]{3, 0, 1, 0, 2, 7}, new int[]{0, 1, 2, 3, 2, 0},
+                    new Integer[]{null, 10, 20, 40, 30, 70});
+
+            System.out.println("addEdges(int[], int[], W[]):\n" + graph);
+            System.out.println("");
+
+            graphLoader.addEdges(Arrays.asList(new int[]{4, 0, 50}, new int[]{4, 2, 60}).iterator(),
+                    e -> e[0], e -> e[1], e -> e[2]);
+
+            System.out.println("addEdges(Iterator<T>, ...):\n" + graph);
+            System.out.println("");
+
+            System.out.println("predecessors(0): " + Arrays.toString(graph.predecessors(0)));
+        }
+
+    }
+
+}
@@ -0,0 +1,329 @@
+package graph;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * @author Manoj Khanna
+ */
+
+public class MappedGraph {
+
+    public static final int MAGIC = 0x47525048, VERSION = 1, HEADER_SIZE = 20;
+
+    private static final int CHUNK_SHIFT = 30;
+    private static final long CHUNK_MASK = (1L << CHUNK_SHIFT) - 1;
+
+    public final int n, m;
+    public final boolean weighted;
+
+    private final Section ids, offsets, targets, weights;
+
+    public MappedGraph(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException("Not a graph file: " + file);
+            }
+
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+
+            if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+                throw new IOException("Not a graph file: " + file);
+            }
+
+            n = header.getInt(8);
+            m = header.getInt(12);
+            weighted = header.getInt(16) != 0;
+
+            if (n < 0 || m < 0 || channel.size() != HEADER_SIZE + 4L * (2L * n + 1 + m) + (weighted ? 8L * m : 0)) {
+                throw new IOException("Truncated graph file: " + file);
+            }
+
+            long position = HEADER_SIZE;
+
+            ids = new Section(channel, position, n, 4);
+            position += 4L * n;
+
+            offsets = new Section(channel, position, n + 1L, 4);
+            position += 4L * (n + 1);
+
+            targets = new Section(channel, position, m, 4);
+            position += 4L * m;
+
+            weights = weighted ? new Section(channel, position, m, 8) : null;
+        }
+
+        if (offset(0) != 0 || offset(n) != m) {
+            throw new IOException("Corrupt graph file: " + file);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder string = new StringBuilder();
+
+        for (int i = 0; i < n; i++) {
+            if (i > 0) {
+                string.append("\n");
+            }
+
+            string.append(id(i)).append(" -> ");
+
+            for (int k = offset(i); k < offset(i + 1); k++) {
+                if (k > offset(i)) {
+                    string.append(", ");
+                }
+
+                string.append(id(target(k)));
+
+                if (weighted) {
+                    string.append("(").append(weight(k)).append(")");
+                }
+            }
+        }
+
+        return string.toString();
+    }
+
+    public static void write(CsrGraph<?, ?> graph, File file) throws IOException {
+        if (graph.dws == null && graph.objectWeighted()) {
+            throw new IllegalArgumentException("Graph has object weights, freeze it with a weight function");
+        }
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+
+            buffer.putInt(MAGIC)
+                    .putInt(VERSION)
+                    .putInt(graph.n)
+                    .putInt(graph.m)
+                    .putInt(graph.dws != null ? 1 : 0);
+
+            for (int i = 0; i < graph.n; i++) {
+                flush(channel, buffer, 4);
+
+                buffer.putInt(graph.ids[i]);
+            }
+
+            for (int i = 0; i <= graph.n; i++) {
+                flush(channel, buffer, 4);
+
+                buffer.putInt(graph.offsets[i]);
+            }
+
+            for (int k = 0; k < graph.m; k++) {
+                flush(channel, buffer, 4);
+
+                buffer.putInt(graph.targets[k]);
+            }
+
+            if (graph.dws != null) {
+                for (int k = 0; k < graph.m; k++) {
+                    flush(channel, buffer, 8);
+
+                    buffer.putDouble(graph.dws[k]);
+                }
+            }
+
+            flush(channel, buffer, buffer.capacity());
+        }
+    }
+
+    /**
+     * Copies every section onto the heap, so the result costs as much memory as the whole file.
+     */
+    public <E, W> CsrGraph<E, W> toCsrGraph() {
+        int[] ids = new int[n], offsets = new int[n + 1], targets = new int[m];
+        double[] dws = weighted ? new double[m] : null;
+
+        for (int i = 0; i < n; i++) {
+            ids[i] = id(i);
+        }
+
+        for (int i = 0; i <= n; i++) {
+            offsets[i] = offset(i);
+        }
+
+        for (int k = 0; k < m; k++) {
+            targets[k] = target(k);
+
+            if (weighted) {
+                dws[k] = weight(k);
+            }
+        }
+
+        return new CsrGraph<>(ids, new Object[n], offsets, targets, null, dws);
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer, int c) throws IOException {
+        if (buffer.remaining() < c) {
+            buffer.flip();
+
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+
+            buffer.clear();
+        }
+    }
+
+    public int id(int i) {
+        return ids.getInt(i);
+    }
+
+    public int offset(int i) {
+        return offsets.getInt(i);
+    }
+
+    public int target(int k) {
+        return targets.getInt(k);
+    }
+
+    public double weight(int k) {
+        return weights.getDouble(k);
+    }
+
+    public int degree(int i) {
+        return offset(i + 1) - offset(i);
+    }
+
+    public int index(int u) {
+        int l = 0, r = n - 1;
+
+        while (l <= r) {
+            int i = (l + r) >>> 1, v = id(i);
+
+            if (v < u) {
+                l = i + 1;
+            } else if (v > u) {
+                r = i - 1;
+            } else {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    public int edgeIndex(int i, int j) {
+        int l = offset(i), r = offset(i + 1) - 1;
+
+        while (l <= r) {
+            int k = (l + r) >>> 1, x = target(k);
+
+            if (x < j) {
+                l = k + 1;
+            } else if (x > j) {
+                r = k - 1;
+            } else {
+                return k;
+            }
+        }
+
+        return -1;
+    }
+
+    public boolean contains(int u) {
+        return index(u) >= 0;
+    }
+
+    public double getDoubleWeight(int u, int v) {
+        int i = index(u), j = index(v);
+
+        if (weighted && i >= 0 && j >= 0) {
+            int k = edgeIndex(i, j);
+
+            if (k >= 0) {
+                return weight(k);
+            }
+        }
+
+        return Double.NaN;
+    }
+
+    private static class Section {
+
+        private final ByteBuffer[] buffers;
+
+        private Section(FileChannel channel, long position, long c, int size) throws IOException {
+            long length = c * size;
+
+            buffers = new ByteBuffer[(int) ((length + CHUNK_MASK) >>> CHUNK_SHIFT)];
+
+            for (int i = 0; i < buffers.length; i++) {
+                long p = (long) i << CHUNK_SHIFT;
+
+                buffers[i] = channel.map(FileChannel.MapMode.READ_ONLY, position + p, Math.min(length - p, CHUNK_MASK + 1))
+                        .order(ByteOrder.LITTLE_ENDIAN);
+            }
+        }
+
+        private int getInt(long k) {
+            long p = k << 2;
+
+            return buffers[(int) (p >>> CHUNK_SHIFT)].getInt((int) (p & CHUNK_MASK));
+        }
+
+        private double getDouble(long k) {
+            long p = k << 3;
+
+            return buffers[(int) (p >>> CHUNK_SHIFT)].getDouble((int) (p & CHUNK_MASK));
+        }
+
+    }
+
+    private static class Example {
+
+        public static void main(String[] args) throws IOException {
+            System.out.println("Mapped Graph Example:");
+            System.out.println("");
+
+            Graph<Character, Integer> graph = new Graph<>();
+
+            for (int i = 0; i < 5; i++) {
+                graph.addVertex(10 * i, (char) ('a' + i));
+            }
+
+            graph.addEdge(0, 10, 10);
+            graph.addEdge(0, 30, 40);
+            graph.addEdge(10, 20, 20);
+            graph.addEdge(20, 20, 30);
+            graph.addEdge(30, 0, 50);
+
+            File file = File.createTempFile("graph", ".bin");
+            file.deleteOnExit();
+
+            MappedGraph.write(graph.freeze(w -> w), file);
+
+            System.out.println("write(...): " + file.length() + " bytes");
+            System.out.println("");
+
+            MappedGraph mappedGraph = new MappedGraph(file);
+
+            System.out.println("MappedGraph(...):\n" + mappedGraph);
+            System.out.println("");
+
+            System.out.println("getDoubleWeight(0, 30): " + mappedGraph.getDoubleWeight(0, 30));
+            System.out.println("");
+
+            CsrGraph<Character, Integer> csrGraph = mappedGraph.toCsrGraph();
+
+            System.out.println("toCsrGraph():\n" + csrGraph);
+            System.out.println("");
+
+            ShortestPath<Character, Integer> shortestPath = new ShortestPath<>(csrGraph);
+
+            System.out.println("toCsrGraph(), bidirectional(0, 20): " + shortestPath.bidirectional(0, 20)
+                    + " " + Arrays.toString(shortestPath.path(20)));
+        }
+
+    }
+
+}
@@ -0,0 +1,173 @@
+package graph;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntToDoubleFunction;
+import java.util.stream.IntStream;
+
+/**
+ * @author Manoj Khanna
+ */
+
+public class PageRank<E, W> {
+
+    public final CsrGraph<E, W> graph, reverseGraph;
+    public final ForkJoinPool pool;
+    public final double damping, epsilon;
+    public final int maxIterations;
+
+    public double[] ranks;
+    public int iterations;
+
+    private double[] nextRanks;
+    private final double[] contributions, teleports;
+
+    public PageRank(CsrGraph<E, W> graph, ForkJoinPool pool, double damping, double epsilon, int maxIterations) {
+        this.graph = graph;
+        this.pool = pool;
+        this.damping = damping;
+        this.epsilon = epsilon;
+        this.maxIterations = maxIterations;
+
+        reverseGraph = graph.reverse();
+        ranks = new double[graph.n];
+        nextRanks = new double[graph.n];
+        contributions = new double[graph.n];
+        teleports = new double[graph.n];
+    }
+
+    public PageRank(CsrGraph<E, W> graph) {
+        this(graph, ForkJoinPool.commonPool(), 0.85, 1e-9, 100);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder string = new StringBuilder();
+
+        for (int i = 0; i < graph.n; i++) {
+            if (i > 0) {
+                string.append(", ");
+            }
+
+            string.append(graph.ids[i]).append("(").append(String.format("%.4f", ranks[i])).append(")");
+        }
+
+        return string.toString();
+    }
+
+    public void rank() {
+        Arrays.fill(teleports, 1.0 / graph.n);
+
+        iterate();
+    }
+
+    public void rank(int... us) {
+        Arrays.fill(teleports, 0.0);
+
+        int c = 0;
+
+        for (int u : us) {
+            if (graph.index(u) >= 0) {
+                c++;
+            }
+        }
+
+        for (int u : us) {
+            int i = graph.index(u);
+
+            if (i >= 0) {
+                teleports[i] += 1.0 / c;
+            }
+        }
+
+        iterate();
+    }
+
+    public double get(int u) {
+        int i = graph.index(u);
+
+        return i >= 0 ? ranks[i] : 0.0;
+    }
+
+    private void iterate() {
+        System.arraycopy(teleports, 0, ranks, 0, graph.n);
+
+        for (iterations = 0; iterations < maxIterations; ) {
+            double dangling = parallelSum(i -> {
+                int d = graph.degree(i);
+
+                contributions[i] = d > 0 ? ranks[i] / d : 0.0;
+
+                return d > 0 ? 0.0 : ranks[i];
+            });
+
+            double delta = parallelSum(i -> {
+                double sum = 0.0;
+
+                for (int k = reverseGraph.offsets[i]; k < reverseGraph.offsets[i + 1]; k++) {
+                    sum += contributions[reverseGraph.targets[k]];
+                }
+
+                nextRanks[i] = (1.0 - damping) * teleports[i] + damping * (sum + dangling * teleports[i]);
+
+                return Math.abs(nextRanks[i] - ranks[i]);
+            });
+
+            double[] x = ranks;
+            ranks = nextRanks;
+            nextRanks = x;
+
+            iterations++;
+
+            if (delta < epsilon) {
+                break;
+            }
+        }
+    }
+
+    private double parallelSum(IntToDoubleFunction function) {
+        return pool.submit(() -> IntStream.range(0, graph.n)
+                .parallel()
+                .mapToDouble(function)
+                .sum())
+                .join();
+    }
+
+    private static class Example {
+
+        public static void main(String[] args) {
+            System.out.println("Page Rank Example:");
+            System.out.println("");
+
+            Graph<Character, Integer> graph = new Graph<>();
+
+            for (int i = 0; i < 5; i++) {
+                graph.addVertex(i, (char) ('a' + i));
+            }
+
+            graph.addEdge(0, 1, null);
+            graph.addEdge(0, 2, null);
+            graph.addEdge(1, 2, null);
+            graph.addEdge(2, 0, null);
+            graph.addEdge(3, 2, null);
+
+            PageRank<Character, Integer> pageRank = new PageRank<>(graph.freeze());
+
+            pageRank.rank();
+
+            System.out.println("rank(): " + pageRank);
+            System.out.println("iterations: " + pageRank.iterations);
+            System.out.println("");
+
+            pageRank.rank(3);
+
+            System.out.println("rank(3): " + pageRank);
+            System.out.println("iterations: " + pageRank.iterations);
+            System.out.println("");
+
+            System.out.println("get(2): " + pageRank.get(2));
+        }
+
+    }
+
+}
@@ -0,0 +1,263 @@
+package graph;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+/**
+ * @author Manoj Khanna
+ */
+
+public class ParallelBfs<E, W> {
+
+    public final CsrGraph<E, W> graph, reverseGraph;
+    public final ForkJoinPool pool;
+    public final int alpha, beta;
+    public final int[] depth, parent;
+
+    private final int words;
+
+    private AtomicLongArray visited, frontier, next;
+
+    public ParallelBfs(CsrGraph<E, W> graph, ForkJoinPool pool, int alpha, int beta) {
+        this.graph = graph;
+        this.pool = pool;
+        this.alpha = alpha;
+        this.beta = beta;
+
+        reverseGraph = graph.reverse();
+        depth = new int[graph.n];
+        parent = new int[graph.n];
+        words = (graph.n + 63) >>> 6;
+    }
+
+    public ParallelBfs(CsrGraph<E, W> graph, ForkJoinPool pool) {
+        this(graph, pool, 14, 24);
+    }
+
+    public ParallelBfs(CsrGraph<E, W> graph) {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    public int bfs(int u) {
+        Arrays.fill(depth, -1);
+        Arrays.fill(parent, -1);
+
+        int i = graph.index(u);
+
+        if (i < 0) {
+            return 0;
+        }
+
+        visited = new AtomicLongArray(words);
+        frontier = new AtomicLongArray(words);
+        next = new AtomicLongArray(words);
+
+        depth[i] = 0;
+        visited.set(i >>> 6, 1L << i);
+        frontier.set(i >>> 6, 1L << i);
+
+        long nf = 1, mf = graph.degree(i), mu = graph.m;
+        int c = 1, d = 0;
+        boolean bottomUp = false;
+
+        while (nf > 0) {
+            if (!bottomUp && mf > mu / alpha) {
+                bottomUp = true;
+            } else if (bottomUp && nf < graph.n / beta) {
+                bottomUp = false;
+            }
+
+            int l = d;
+
+            if (bottomUp) {
+                nf = parallelSum(w -> bottomUpStep(w, l));
+            } else {
+                nf = parallelSum(w -> topDownStep(w, l));
+            }
+
+            mu -= mf;
+            mf = parallelSum(this::frontierDegree);
+
+            c += nf;
+            d++;
+
+            AtomicLongArray x = frontier;
+            frontier = next;
+            next = x;
+
+            parallelSum(w -> {
+                next.set(w, 0L);
+
+                return 0;
+            });
+        }
+
+        visited = frontier = next = null;
+
+        return c;
+    }
+
+    public int depth(int u) {
+        int i = graph.index(u);
+
+        return i >= 0 ? depth[i] : -1;
+    }
+
+    public int parent(int u) {
+        int i = graph.index(u);
+
+        if (i >= 0 && parent[i] >= 0) {
+            return graph.ids[parent[i]];
+        }
+
+        return -1;
+    }
+
+    private long parallelSum(WordFunction wordFunction) {
+        return pool.submit(() -> IntStream.range(0, words)
+                .parallel()
+                .mapToLong(wordFunction::apply)
+                .sum())
+                .join();
+    }
+
+    private long topDownStep(int w, int d) {
+        long bits = frontier.get(w), c = 0;
+
+        while (bits != 0) {
+            int i = (w << 6) + Long.numberOfTrailingZeros(bits);
+
+            bits &= bits - 1;
+
+            for (int k = graph.offsets[i]; k < graph.offsets[i + 1]; k++) {
+                int j = graph.targets[k];
+                long b = 1L << j;
+
+                while (true) {
+                    long x = visited.get(j >>> 6);
+
+                    if ((x & b) != 0) {
+                        break;
+                    }
+
+                    if (visited.compareAndSet(j >>> 6, x, x | b)) {
+                        depth[j] = d + 1;
+                        parent[j] = i;
+
+                        setBit(next, j);
+
+                        c++;
+
+                        break;
+                    }
+                }
+            }
+        }
+
+        return c;
+    }
+
+    private long bottomUpStep(int w, int d) {
+        long bits = ~visited.get(w), c = 0;
+
+        if (w == words - 1 && (graph.n & 63) != 0) {
+            bits &= (1L << (graph.n & 63)) - 1;
+        }
+
+        long x = 0;
+
+        while (bits != 0) {
+            int i = (w << 6) + Long.numberOfTrailingZeros(bits);
+            long b = bits & -bits;
+
+            bits &= bits - 1;
+
+            for (int k = reverseGraph.offsets[i]; k < reverseGraph.offsets[i + 1]; k++) {
+                int j = reverseGraph.targets[k];
+
+                if ((frontier.get(j >>> 6) & (1L << j)) != 0) {
+                    depth[i] = d + 1;
+                    parent[i] = j;
+
+                    x |= b;
+
+                    c++;
+
+                    break;
+                }
+            }
+        }
+
+        if (x != 0) {
+            visited.set(w, visited.get(w) | x);
+            next.set(w, x);
+        }
+
+        return c;
+    }
+
+    private long frontierDegree(int w) {
+        long bits = next.get(w), c = 0;
+
+        while (bits != 0) {
+            c += graph.degree((w << 6) + Long.numberOfTrailingZeros(bits));
+
+            bits &= bits - 1;
+        }
+
+        return c;
+    }
+
+    private static void setBit(AtomicLongArray bitSet, int i) {
+        long b = 1L << i;
+
+        while (true) {
+            long x = bitSet.get(i >>> 6);
+
+            if ((x & b) != 0 || bitSet.compareAndSet(i >>> 6, x, x | b)) {
+                return;
+            }
+        }
+    }
+
+    private interface WordFunction {
+
+        long apply(int w);
+
+    }
+
+    private static class Example {
+
+        public static void main(String[] args) {
+            System.out.println("Parallel BFS Example:");
+            System.out.println("");
+
+            Graph<Character, Integer> graph = new Graph<>();
+
+            for (int i = 0; i < 8; i++) {
+                graph.addVertex(i, (char) ('a' + i));
+            }
+
+            graph.addEdge(0, 1, null);
+            graph.addEdge(0, 2, null);
+            graph.addEdge(1, 3, null);
+            graph.addEdge(2, 3, null);
+            graph.addEdge(3, 4, null);
+            graph.addEdge(4, 5, null);
+            graph.addEdge(6, 7, null);
+
+            ParallelBfs<Character, Integer> parallelBfs = new ParallelBfs<>(graph.freeze());
+
+            System.out.println("bfs(0): " + parallelBfs.bfs(0));
+            System.out.println("");
+
+            for (int u = 0; u < 8; u++) {
+                System.out.println("depth(" + u + "): " + parallelBfs.depth(u) + ", parent(" + u + "): " + parallelBfs.parent(u));
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,342 @@
+package graph;
+
+import heap.BinaryHeap;
+
+import java.util.Arrays;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * @author Manoj Khanna
+ */
+
+public class ShortestPath<E, W> {
+
+    public final CsrGraph<E, W> graph;
+    public final Search forwardSearch, backwardSearch;
+
+    public int s, t, x;
+
+    public ShortestPath(CsrGraph<E, W> graph) {
+        if (graph.dws == null && graph.objectWeighted()) {
+            throw new IllegalArgumentException("Graph has object weights, freeze it with a weight function");
+        }
+
+        this.graph = graph;
+
+        forwardSearch = new Search(graph);
+        backwardSearch = new Search(graph.reverse());
+
+        s = t = x = -1;
+    }
+
+    public ShortestPath(Graph<E, W> graph, ToDoubleFunction<W> weightFunction) {
+        this(graph.freeze(weightFunction));
+    }
+
+    public void dijkstra(int u) {
+        int i = graph.index(u);
+
+        s = i;
+        t = x = -1;
+
+        forwardSearch.reset();
+        backwardSearch.reset();
+
+        if (i >= 0) {
+            forwardSearch.add(i, 0.0, -1, 0.0);
+
+            while (forwardSearch.heap.n > 0) {
+                forwardSearch.scan(null, null);
+            }
+        }
+    }
+
+    public double aStar(int u, int v, IntToDoubleFunction heuristicFunction) {
+        int i = graph.index(u), j = graph.index(v);
+
+        s = i;
+        t = x = -1;
+
+        forwardSearch.reset();
+        backwardSearch.reset();
+
+        if (i < 0 || j < 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        forwardSearch.add(i, 0.0, -1, heuristicFunction.applyAsDouble(u));
+
+        while (forwardSearch.heap.n > 0) {
+            if (forwardSearch.scan(null, heuristicFunction) == j) {
+                break;
+            }
+        }
+
+        return forwardSearch.d[j];
+    }
+
+    public double bidirectional(int u, int v) {
+        int i = graph.index(u), j = graph.index(v);
+
+        s = i;
+        t = j;
+        x = -1;
+
+        forwardSearch.reset();
+        backwardSearch.reset();
+
+        if (i < 0 || j < 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        forwardSearch.add(i, 0.0, -1, 0.0);
+        backwardSearch.add(j, 0.0, -1, 0.0);
+
+        double d = i == j ? 0.0 : Double.POSITIVE_INFINITY;
+
+        if (i == j) {
+            x = i;
+        }
+
+        while (forwardSearch.heap.n > 0 && backwardSearch.heap.n > 0
+                && forwardSearch.peek() + backwardSearch.peek() < d) {
+            Search search, otherSearch;
+
+            if (forwardSearch.heap.n <= backwardSearch.heap.n) {
+                search = forwardSearch;
+                otherSearch = backwardSearch;
+            } else {
+                search = backwardSearch;
+                otherSearch = forwardSearch;
+            }
+
+            search.scan(otherSearch, null);
+
+            if (search.meetD < d) {
+                d = search.meetD;
+                x = search.meetI;
+            }
+        }
+
+        return d;
+    }
+
+    public double distance(int u) {
+        int i = graph.index(u);
+
+        if (i < 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        if (i == t && x >= 0) {
+            return forwardSearch.d[x] + backwardSearch.d[x];
+        }
+
+        return forwardSearch.d[i];
+    }
+
+    public int[] path(int u) {
+        int i = graph.index(u);
+
+        if (i < 0) {
+            return new int[0];
+        }
+
+        int j = i, k = -1;
+
+        if (i == t && x >= 0) {
+            j = x;
+            k = backwardSearch.p[x];
+        } else if (forwardSearch.d[i] == Double.POSITIVE_INFINITY) {
+            return new int[0];
+        }
+
+        int c = 0;
+
+        for (int l = j; l >= 0; l = forwardSearch.p[l]) {
+            c++;
+        }
+
+        int b = c;
+
+        for (int l = k; l >= 0; l = backwardSearch.p[l]) {
+            c++;
+        }
+
+        int[] path = new int[c];
+
+        int l = b;
+
+        for (int m = j; m >= 0; m = forwardSearch.p[m]) {
+            path[--l] = graph.ids[m];
+        }
+
+        l = b;
+
+        for (int m = k; m >= 0; m = backwardSearch.p[m]) {
+            path[l++] = graph.ids[m];
+        }
+
+        return path;
+    }
+
+    public static class Search {
+
+        public static final byte UNSEEN = 0, LABELED = 1, SETTLED = 2;
+
+        public final CsrGraph<?, ?> graph;
+        public final Integer[] ids;
+        public final BinaryHeap<Integer> heap;
+        public final double[] d, keys;
+        public final int[] p, touched;
+        public final byte[] state;
+
+        public int n, meetI;
+        public double meetD;
+
+        public Search(CsrGraph<?, ?> graph) {
+            this.graph = graph;
+
+            ids = new Integer[graph.n];
+            keys = new double[graph.n];
+            heap = new BinaryHeap<>(Math.max(graph.n, 1), (a, b) -> Double.compare(keys[a], keys[b]));
+            d = new double[graph.n];
+
+            for (int i = 0; i < graph.n; i++) {
+                ids[i] = i;
+            }
+            p = new int[graph.n];
+            touched = new int[graph.n];
+            state = new byte[graph.n];
+
+            Arrays.fill(d, Double.POSITIVE_INFINITY);
+            Arrays.fill(p, -1);
+        }
+
+        public void reset() {
+            for (int k = 0; k < n; k++) {
+                int i = touched[k];
+
+                heap.remove(i);
+
+                d[i] = Double.POSITIVE_INFINITY;
+                p[i] = -1;
+                state[i] = UNSEEN;
+            }
+
+            n = 0;
+        }
+
+        public void add(int i, double d, int p, double h) {
+            keys[i] = d + h;
+
+            if (state[i] == UNSEEN) {
+                touched[n++] = i;
+                state[i] = LABELED;
+
+                heap.add(i, ids[i]);
+            } else {
+                heap.update(i);
+            }
+
+            this.d[i] = d;
+            this.p[i] = p;
+        }
+
+        public double peek() {
+            return keys[heap.q[0]];
+        }
+
+        public int scan(Search otherSearch, IntToDoubleFunction heuristicFunction) {
+            int i = heap.q[0];
+            double[] dws = graph.dws;
+
+            heap.remove(i);
+            state[i] = SETTLED;
+
+            meetI = -1;
+            meetD = Double.POSITIVE_INFINITY;
+
+            for (int k = graph.offsets[i]; k < graph.offsets[i + 1]; k++) {
+                int j = graph.targets[k];
+                double dj = d[i] + (dws != null ? dws[k] : 1.0);
+
+                if (state[j] != SETTLED && dj < d[j]) {
+                    add(j, dj, i, heuristicFunction != null ? heuristicFunction.applyAsDouble(graph.ids[j]) : 0.0);
+                }
+
+                if (otherSearch != null && otherSearch.state[j] != UNSEEN && d[j] + otherSearch.d[j] < meetD) {
+                    meetI = j;
+                    meetD = d[j] + otherSearch.d[j];
+                }
+            }
+
+            return i;
+        }
+
+    }
+
+    private static class Example {
+
+        public static void main(String[] args) {
+            System.out.println("Shortest Path Example:");
+            System.out.println("");
+
+            Graph<Character, Integer> graph = new Graph<>();
+
+            for (int i = 0; i < 6; i++) {
+                graph.addVertex(i, (char) ('a' + i));
+            }
+
+            graph.addEdge(0, 1, 7);
+            graph.addEdge(0, 2, 9);
+            graph.addEdge(0, 5, 14);
+            graph.addEdge(1, 2, 10);
+            graph.addEdge(1, 3, 15);
+            graph.addEdge(2, 3, 11);
+            graph.addEdge(2, 5, 2);
+            graph.addEdge(3, 4, 6);
+            graph.addEdge(5, 4, 9);
+
+            ShortestPath<Character, Integer> shortestPath = new ShortestPath<>(graph, w -> w);
+
+            shortestPath.dijkstra(0);
+
+            System.out.println("dijkstra(0):");
+
+            for (int u = 0; u < 6; u++) {
+                System.out.println(u + ": " + shortestPath.distance(u) + " " + Arrays.toString(shortestPath.path(u)));
+            }
+
+            System.out.println("");
+
+            System.out.println("aStar(0, 4, u -> 0.0): " + shortestPath.aStar(0, 4, u -> 0.0)
+                    + " " + Arrays.toString(shortestPath.path(4)));
+            System.out.println("");
+
+            System.out.println("bidirectional(0, 4): " + shortestPath.bidirectional(0, 4)
+                    + " " + Arrays.toString(shortestPath.path(4)));
+            System.out.println("");
+
+            Graph<Character, Integer> unweightedGraph = new Graph<>();
+
+            for (Graph.Vertex<Character, Integer> vertex : graph.vertexMap.values()) {
+                unweightedGraph.addVertex(vertex.u, vertex.e);
+            }
+
+            for (Graph.Vertex<Character, Integer> vertex : graph.vertexMap.values()) {
+                for (int v : vertex.edgeMap.keySet()) {
+                    unweightedGraph.addEdge(vertex.u, v, null);
+                }
+            }
+
+            ShortestPath<Character, Integer> hops = new ShortestPath<>(unweightedGraph.freeze());
+
+            System.out.println("unweighted, bidirectional(0, 4): " + hops.bidirectional(0, 4)
+                    + " " + Arrays.toString(hops.path(4)));
+        }
+
+    }
+
+}
@@ -0,0 +1,157 @@
+package graph;
+
+import java.util.Arrays;
+
+/**
+ * @author Manoj Khanna
+ */
+
+public class StronglyConnectedComponents<E, W> {
+
+    public final CsrGraph<E, W> graph;
+    public final int[] component;
+
+    public int c;
+
+    public StronglyConnectedComponents(CsrGraph<E, W> graph) {
+        this.graph = graph;
+
+        component = new int[graph.n];
+
+        int n = graph.n, t = 0, top = -1, sp = 0;
+        int[] index = new int[n], low = new int[n], next = new int[n], callStack = new int[n], stack = new int[n];
+        boolean[] onStack = new boolean[n];
+
+        Arrays.fill(index, -1);
+
+        for (int r = 0; r < n; r++) {
+            if (index[r] >= 0) {
+                continue;
+            }
+
+            index[r] = low[r] = t++;
+            next[r] = graph.offsets[r];
+            stack[sp++] = r;
+            onStack[r] = true;
+            callStack[++top] = r;
+
+            while (top >= 0) {
+                int i = callStack[top];
+
+                if (next[i] < graph.offsets[i + 1]) {
+                    int j = graph.targets[next[i]++];
+
+                    if (index[j] < 0) {
+                        index[j] = low[j] = t++;
+                        next[j] = graph.offsets[j];
+                        stack[sp++] = j;
+                        onStack[j] = true;
+                        callStack[++top] = j;
+                    } else if (onStack[j]) {
+                        low[i] = Math.min(low[i], index[j]);
+                    }
+                } else {
+                    if (low[i] == index[i]) {
+                        int j;
+
+                        do {
+                            j = stack[--sp];
+                            onStack[j] = false;
+                            component[j] = c;
+                        } while (j != i);
+
+                        c++;
+                    }
+
+                    top--;
+
+                    if (top >= 0) {
+                        int k = callStack[top];
+
+                        low[k] = Math.min(low[k], low[i]);
+                    }
+                }
+            }
+        }
+    }
+
+    public StronglyConnectedComponents(Graph<E, W> graph) {
+        this(graph.freeze());
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder string = new StringBuilder();
+
+        for (int i = 0; i < graph.n; i++) {
+            if (i > 0) {
+                string.append(", ");
+            }
+
+            string.append(graph.ids[i]).append("(").append(component[i]).append(")");
+        }
+
+        return string.toString();
+    }
+
+    public int componentOf(int u) {
+        int i = graph.index(u);
+
+        return i >= 0 ? component[i] : -1;
+    }
+
+    public int[] members(int c) {
+        int n = 0;
+
+        for (int i = 0; i < graph.n; i++) {
+            if (component[i] == c) {
+                n++;
+            }
+        }
+
+        int[] members = new int[n];
+
+        for (int i = 0, j = 0; i < graph.n; i++) {
+            if (component[i] == c) {
+                members[j++] = graph.ids[i];
+            }
+        }
+
+        return members;
+    }
+
+    private static class Example {
+
+        public static void main(String[] args) {
+            System.out.println("Strongly Connected Components Example:");
+            System.out.println("");
+
+            Graph<Character, Integer> graph = new Graph<>();
+
+            for (int i = 0; i < 6; i++) {
+                graph.addVertex(i, (char) ('a' + i));
+            }
+
+            graph.addEdge(0, 1, null);
+            graph.addEdge(1, 2, null);
+            graph.addEdge(2, 0, null);
+            graph.addEdge(2, 3, null);
+            graph.addEdge(3, 4, null);
+            graph.addEdge(4, 3, null);
+            graph.addEdge(4, 5, null);
+
+            StronglyConnectedComponents<Character, Integer> stronglyConnectedComponents = new StronglyConnectedComponents<>(graph);
+
+            System.out.println("StronglyConnectedComponents(...): " + stronglyConnectedComponents);
+            System.out.println("");
+
+            System.out.println("c: " + stronglyConnectedComponents.c);
+            System.out.println("");
+
+            System.out.println("members(componentOf(0)): "
+                    + Arrays.toString(stronglyConnectedComponents.members(stronglyConnectedComponents.componentOf(0))));
+        }
+
+    }
+
+}
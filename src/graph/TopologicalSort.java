@@ -0,0 +1,97 @@
+package graph;
+
+import java.util.Arrays;
+
+/**
+ * @author Manoj Khanna
+ */
+
+public class TopologicalSort<E, W> {
+
+    public final CsrGraph<E, W> graph;
+    public final int[] order;
+    public final boolean acyclic;
+
+    public TopologicalSort(CsrGraph<E, W> graph) {
+        this.graph = graph;
+
+        int n = graph.n;
+        int[] inDegree = new int[n], queue = new int[n];
+
+        for (int k = 0; k < graph.m; k++) {
+            inDegree[graph.targets[k]]++;
+        }
+
+        int l = 0, r = 0;
+
+        for (int i = 0; i < n; i++) {
+            if (inDegree[i] == 0) {
+                queue[r++] = i;
+            }
+        }
+
+        while (l < r) {
+            int i = queue[l++];
+
+            for (int k = graph.offsets[i]; k < graph.offsets[i + 1]; k++) {
+                int j = graph.targets[k];
+
+                if (--inDegree[j] == 0) {
+                    queue[r++] = j;
+                }
+            }
+        }
+
+        for (int i = 0; i < r; i++) {
+            queue[i] = graph.ids[queue[i]];
+        }
+
+        order = r == n ? queue : Arrays.copyOf(queue, r);
+        acyclic = r == n;
+    }
+
+    public TopologicalSort(Graph<E, W> graph) {
+        this(graph.freeze());
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(order);
+    }
+
+    private static class Example {
+
+        public static void main(String[] args) {
+            System.out.println("Topological Sort Example:");
+            System.out.println("");
+
+            Graph<Character, Integer> graph = new Graph<>();
+
+            for (int i = 0; i < 6; i++) {
+                graph.addVertex(i, (char) ('a' + i));
+            }
+
+            graph.addEdge(5, 2, null);
+            graph.addEdge(5, 0, null);
+            graph.addEdge(4, 0, null);
+            graph.addEdge(4, 1, null);
+            graph.addEdge(2, 3, null);
+            graph.addEdge(3, 1, null);
+
+            TopologicalSort<Character, Integer> topologicalSort = new TopologicalSort<>(graph);
+
+            System.out.println("TopologicalSort(...): " + topologicalSort);
+            System.out.println("acyclic: " + topologicalSort.acyclic);
+            System.out.println("");
+
+            graph.addEdge(1, 5, null);
+
+            topologicalSort = new TopologicalSort<>(graph);
+
+            System.out.println("addEdge(1, 5), TopologicalSort(...): " + topologicalSort);
+            System.out.println("acyclic: " + topologicalSort.acyclic);
+        }
+
+    }
+
+}
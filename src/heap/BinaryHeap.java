@@ -1,5 +1,7 @@
 package heap;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Comparator;
 
 /**
@@ -20,7 +22,7 @@ public class BinaryHeap<E> {
         this.c = c;
         this.comparator = comparator;
 
-        nodes = new Node[c];
+        nodes = (Node<E>[]) new Node<?>[c];
         p = new int[c];
         q = new int[c];
     }
@@ -48,25 +50,60 @@ public class BinaryHeap<E> {
     }
 
     public String toString(int i, int d) {
-        if (i >= n) {
-            return "";
-        }
-
         StringBuilder string = new StringBuilder();
 
-        if (d > 0) {
-            string.append("\n");
+        try {
+            write(string, i, d);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
 
-        for (int j = 0; j < 4 * d; j++) {
-            string.append(" ");
-        }
+        return string.toString();
+    }
+
+    public void write(Appendable appendable) throws IOException {
+        write(appendable, 0, 0);
+    }
 
-        string.append(nodes[q[i]])
-                .append(toString(leftIndex(i), d + 1))
-                .append(toString(rightIndex(i), d + 1));
+    public void write(Appendable appendable, int i, int d) throws IOException {
+        int[] stack = new int[128];
+        int top = 0;
 
-        return string.toString();
+        stack[top++] = i;
+        stack[top++] = d;
+
+        while (top > 0) {
+            int k = stack[top - 2], l = stack[top - 1];
+
+            top -= 2;
+
+            if (k >= n) {
+                continue;
+            }
+
+            if (l > 0) {
+                appendable.append('\n');
+            }
+
+            for (int j = 0; j < 4 * l; j++) {
+                appendable.append(' ');
+            }
+
+            appendable.append(String.valueOf(nodes[q[k]]));
+
+            stack[top++] = rightIndex(k);
+            stack[top++] = l + 1;
+            stack[top++] = leftIndex(k);
+            stack[top++] = l + 1;
+        }
+    }
+
+    public void export(Appendable appendable) throws IOException {
+        for (int k = 0; k < n; k++) {
+            appendable.append(String.valueOf(q[k])).append('\t')
+                    .append(String.valueOf(nodes[q[k]].e))
+                    .append('\n');
+        }
     }
 
     private void swap(int i, int j) {
@@ -187,6 +224,13 @@ public class BinaryHeap<E> {
         }
     }
 
+    public void update(int i) {
+        if (nodes[i] != null) {
+            siftUp(p[i]);
+            siftDown(p[i]);
+        }
+    }
+
     public static class Node<E> {
 
         public final int i;
@@ -243,6 +287,17 @@ public class BinaryHeap<E> {
             binaryHeap.set(0, 10);
 
             System.out.println("set(0, 10):\n" + binaryHeap);
+            System.out.println("");
+
+            StringBuilder string = new StringBuilder();
+
+            try {
+                binaryHeap.export(string);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            System.out.println("export(...):\n" + string);
         }
 
     }
@@ -0,0 +1,96 @@
+package simple;
+
+/**
+ * @author Manoj Khanna
+ */
+
+public class DoubleInterval implements Comparable<DoubleInterval> {
+
+    public double l, r;
+
+    public DoubleInterval() {
+    }
+
+    public DoubleInterval(double l, double r) {
+        this.l = l;
+        this.r = r;
+    }
+
+    public DoubleInterval(DoubleInterval interval) {
+        this(interval.l, interval.r);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 + Double.hashCode(l)) + Double.hashCode(r);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+
+        if (!(obj instanceof DoubleInterval)) {
+            return false;
+        }
+
+        DoubleInterval interval = (DoubleInterval) obj;
+
+        return Double.compare(l, interval.l) == 0
+                && Double.compare(r, interval.r) == 0;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + l + ", " + r + "]";
+    }
+
+    @Override
+    public int compareTo(DoubleInterval o) {
+        int c = Double.compare(l, o.l);
+
+        if (c == 0) {
+            c = Double.compare(r, o.r);
+        }
+
+        return c;
+    }
+
+    public boolean contains(double e) {
+        return e >= l && e <= r;
+    }
+
+    public boolean overlaps(DoubleInterval interval) {
+        return interval.l <= r && interval.r >= l;
+    }
+
+    private static class Example {
+
+        public static void main(String[] args) {
+            System.out.println("Double Interval Example:");
+            System.out.println("");
+
+            DoubleInterval interval1 = new DoubleInterval(10.0, 20.0), interval2 = new DoubleInterval(10.0, 20.0);
+
+            System.out.println("[10.0, 20.0] == [10.0, 20.0]: " + (interval1 == interval2));
+            System.out.println("");
+
+            System.out.println("[10.0, 20.0].hashCode() == [10.0, 20.0].hashCode(): " + (interval1.hashCode() == interval2.hashCode()));
+            System.out.println("");
+
+            System.out.println("[10.0, 20.0].equals([10.0, 20.0]): " + interval1.equals(interval2));
+            System.out.println("");
+
+            System.out.println("[10.0, 20.0].compareTo([10.0, 20.0]): " + interval1.compareTo(interval2));
+            System.out.println("");
+
+            System.out.println("[10.0, 20.0].contains(15.0): " + interval1.contains(15.0));
+            System.out.println("");
+
+            System.out.println("[10.0, 20.0].overlaps([15.0, 25.0]): " + interval1.overlaps(new DoubleInterval(15.0, 25.0)));
+        }
+
+    }
+
+}
@@ -0,0 +1,96 @@
+package simple;
+
+/**
+ * @author Manoj Khanna
+ */
+
+public class IntInterval implements Comparable<IntInterval> {
+
+    public int l, r;
+
+    public IntInterval() {
+    }
+
+    public IntInterval(int l, int r) {
+        this.l = l;
+        this.r = r;
+    }
+
+    public IntInterval(IntInterval interval) {
+        this(interval.l, interval.r);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 + Integer.hashCode(l)) + Integer.hashCode(r);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+
+        if (!(obj instanceof IntInterval)) {
+            return false;
+        }
+
+        IntInterval interval = (IntInterval) obj;
+
+        return l == interval.l
+                && r == interval.r;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + l + ", " + r + "]";
+    }
+
+    @Override
+    public int compareTo(IntInterval o) {
+        int c = Integer.compare(l, o.l);
+
+        if (c == 0) {
+            c = Integer.compare(r, o.r);
+        }
+
+        return c;
+    }
+
+    public boolean contains(int e) {
+        return e >= l && e <= r;
+    }
+
+    public boolean overlaps(IntInterval interval) {
+        return interval.l <= r && interval.r >= l;
+    }
+
+    private static class Example {
+
+        public static void main(String[] args) {
+            System.out.println("Int Interval Example:");
+            System.out.println("");
+
+            IntInterval interval1 = new IntInterval(10, 20), interval2 = new IntInterval(10, 20);
+
+            System.out.println("[10, 20] == [10, 20]: " + (interval1 == interval2));
+            System.out.println("");
+
+            System.out.println("[10, 20].hashCode() == [10, 20].hashCode(): " + (interval1.hashCode() == interval2.hashCode()));
+            System.out.println("");
+
+            System.out.println("[10, 20].equals([10, 20]): " + interval1.equals(interval2));
+            System.out.println("");
+
+            System.out.println("[10, 20].compareTo([10, 20]): " + interval1.compareTo(interval2));
+            System.out.println("");
+
+            System.out.println("[10, 20].contains(15): " + interval1.contains(15));
+            System.out.println("");
+
+            System.out.println("[10, 20].overlaps([15, 25]): " + interval1.overlaps(new IntInterval(15, 25)));
+        }
+
+    }
+
+}
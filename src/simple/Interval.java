@@ -24,7 +24,7 @@ public class Interval<E extends Number & Comparable<E>> implements Comparable<In
 
     @Override
     public int hashCode() {
-        return Objects.hash(l, r);
+        return 31 * (31 + Objects.hashCode(l)) + Objects.hashCode(r);
     }
 
     @Override
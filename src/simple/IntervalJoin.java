@@ -0,0 +1,315 @@
+package simple;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+import java.util.stream.Stream;
+
+/**
+ * @author Manoj Khanna
+ */
+
+public class IntervalJoin {
+
+    public final LongIntervalList a, b;
+    public final ForkJoinPool pool;
+    public final int p;
+
+    private final int[] aOrder, bOrder, aStarts, bStarts;
+    private final int[][] aSeeds, bSeeds;
+
+    public IntervalJoin(LongIntervalList a, LongIntervalList b, ForkJoinPool pool, int p) {
+        this.a = a;
+        this.b = b;
+        this.pool = pool;
+
+        if (pool != null) {
+            int[][] orders = pool.submit(() -> Stream.of(a, b).parallel()
+                    .map(LongIntervalList::order)
+                    .toArray(int[][]::new)).join();
+
+            aOrder = orders[0];
+            bOrder = orders[1];
+        } else {
+            aOrder = a.order();
+            bOrder = b.order();
+        }
+
+        LongIntervalList c = a.n >= b.n ? a : b;
+        int[] cOrder = a.n >= b.n ? aOrder : bOrder;
+
+        long[] boundaries = new long[Math.max(p, 1) + 1];
+        int q = 0;
+
+        boundaries[q++] = Long.MIN_VALUE;
+
+        for (int k = 1; k < p && c.n > 0; k++) {
+            long t = c.ls[cOrder[(int) ((long) k * c.n / p)]];
+
+            if (t > boundaries[q - 1]) {
+                boundaries[q++] = t;
+            }
+        }
+
+        this.p = q;
+
+        aStarts = starts(a, aOrder, boundaries, q);
+        bStarts = starts(b, bOrder, boundaries, q);
+        aSeeds = seeds(a, aOrder, aStarts, boundaries, q);
+        bSeeds = seeds(b, bOrder, bStarts, boundaries, q);
+    }
+
+    public IntervalJoin(LongIntervalList a, LongIntervalList b, ForkJoinPool pool) {
+        this(a, b, pool, pool != null ? 4 * pool.getParallelism() : 1);
+    }
+
+    public IntervalJoin(LongIntervalList a, LongIntervalList b) {
+        this(a, b, null);
+    }
+
+    public static int first(long pair) {
+        return (int) (pair >>> 32);
+    }
+
+    public static int second(long pair) {
+        return (int) pair;
+    }
+
+    public LongStream pairs() {
+        return StreamSupport.longStream(Spliterators.spliteratorUnknownSize(new Sweep(0, p),
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    public void forEach(LongConsumer consumer) {
+        IntConsumer sweeper = k -> new Sweep(k, k + 1).forEachRemaining(consumer);
+
+        if (pool != null) {
+            pool.submit(() -> IntStream.range(0, p).parallel().forEach(sweeper)).join();
+        } else {
+            IntStream.range(0, p).forEach(sweeper);
+        }
+    }
+
+    private static int[] starts(LongIntervalList list, int[] order, long[] boundaries, int q) {
+        int[] starts = new int[q + 1];
+
+        for (int k = 1; k < q; k++) {
+            int l = starts[k - 1], r = list.n;
+
+            while (l < r) {
+                int m = (l + r) >>> 1;
+
+                if (list.ls[order[m]] < boundaries[k]) {
+                    l = m + 1;
+                } else {
+                    r = m;
+                }
+            }
+
+            starts[k] = l;
+        }
+
+        starts[q] = list.n;
+
+        return starts;
+    }
+
+    private static int[][] seeds(LongIntervalList list, int[] order, int[] starts, long[] boundaries, int q) {
+        int[][] seeds = new int[q][];
+        int[] active = new int[16];
+        int c = 0;
+
+        seeds[0] = new int[0];
+
+        for (int k = 1; k < q; k++) {
+            for (int x = starts[k - 1]; x < starts[k]; x++) {
+                if (c == active.length) {
+                    active = Arrays.copyOf(active, grow(c));
+                }
+
+                active[c++] = x;
+            }
+
+            int d = 0;
+
+            for (int y = 0; y < c; y++) {
+                if (list.rs[order[active[y]]] >= boundaries[k]) {
+                    active[d++] = active[y];
+                }
+            }
+
+            c = d;
+            seeds[k] = Arrays.copyOf(active, c);
+        }
+
+        return seeds;
+    }
+
+    private class Sweep implements PrimitiveIterator.OfLong {
+
+        private final int to;
+
+        private int k, x, y, i, z, d;
+        private long l;
+        private boolean fromA, ready;
+        private long next;
+        private Active aActive, bActive, active;
+
+        private Sweep(int from, int to) {
+            this.to = to;
+
+            k = from - 1;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!ready) {
+                if (active != null) {
+                    while (z < active.c && !ready) {
+                        int j = active.order[active.xs[z]];
+
+                        if (active.list.rs[j] >= l) {
+                            active.xs[d++] = active.xs[z];
+
+                            next = fromA ? (long) i << 32 | j : (long) j << 32 | i;
+                            ready = true;
+                        }
+
+                        z++;
+                    }
+
+                    if (ready) {
+                        break;
+                    }
+
+                    active.c = d;
+                    active = null;
+
+                    (fromA ? aActive : bActive).add(fromA ? x - 1 : y - 1);
+                }
+
+                while (aActive == null || x == aStarts[k + 1] && y == bStarts[k + 1]) {
+                    if (++k >= to) {
+                        return false;
+                    }
+
+                    aActive = new Active(a, aOrder, aSeeds[k]);
+                    bActive = new Active(b, bOrder, bSeeds[k]);
+                    x = aStarts[k];
+                    y = bStarts[k];
+                }
+
+                fromA = y >= bStarts[k + 1]
+                        || x < aStarts[k + 1] && a.ls[aOrder[x]] <= b.ls[bOrder[y]];
+
+                i = fromA ? aOrder[x++] : bOrder[y++];
+                l = fromA ? a.ls[i] : b.ls[i];
+                active = fromA ? bActive : aActive;
+                z = d = 0;
+            }
+
+            return true;
+        }
+
+        @Override
+        public long nextLong() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            ready = false;
+
+            return next;
+        }
+
+    }
+
+    private static int grow(int c) {
+        if (c >= Integer.MAX_VALUE - 8) {
+            throw new OutOfMemoryError("Array size exceeds limit");
+        }
+
+        return (int) Math.min(2L * c, Integer.MAX_VALUE - 8);
+    }
+
+    private static class Active {
+
+        private final LongIntervalList list;
+        private final int[] order;
+
+        private int[] xs;
+        private int c;
+
+        private Active(LongIntervalList list, int[] order, int[] seeds) {
+            this.list = list;
+            this.order = order;
+
+            xs = Arrays.copyOf(seeds, Math.max(seeds.length, 16));
+            c = seeds.length;
+        }
+
+        private void add(int x) {
+            if (c == xs.length) {
+                xs = Arrays.copyOf(xs, grow(c));
+            }
+
+            xs[c++] = x;
+        }
+
+    }
+
+    private static class Example {
+
+        public static void main(String[] args) {
+            System.out.println("Interval Join Example:");
+            System.out.println("");
+
+            LongIntervalList events = new LongIntervalList(), windows = new LongIntervalList();
+
+            events.add(10, 20);
+            events.add(35, 60);
+            events.add(5, 8);
+            events.add(55, 56);
+
+            windows.add(0, 6);
+            windows.add(18, 40);
+            windows.add(50, 70);
+
+            System.out.println("events: " + events);
+            System.out.println("");
+
+            System.out.println("windows: " + windows);
+            System.out.println("");
+
+            IntervalJoin intervalJoin = new IntervalJoin(events, windows, ForkJoinPool.commonPool(), 3);
+
+            StringBuilder pairs = new StringBuilder();
+
+            intervalJoin.pairs().sorted().forEachOrdered(pair -> pairs
+                    .append("(").append(first(pair)).append(", ").append(second(pair)).append(") "));
+
+            System.out.println("pairs(): " + pairs);
+            System.out.println("");
+
+            long[] count = new long[1];
+
+            intervalJoin.forEach(pair -> {
+                synchronized (count) {
+                    count[0]++;
+                }
+            });
+
+            System.out.println("forEach(...): " + count[0] + " pairs");
+        }
+
+    }
+
+}
@@ -0,0 +1,96 @@
+package simple;
+
+/**
+ * @author Manoj Khanna
+ */
+
+public class LongInterval implements Comparable<LongInterval> {
+
+    public long l, r;
+
+    public LongInterval() {
+    }
+
+    public LongInterval(long l, long r) {
+        this.l = l;
+        this.r = r;
+    }
+
+    public LongInterval(LongInterval interval) {
+        this(interval.l, interval.r);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 + Long.hashCode(l)) + Long.hashCode(r);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+
+        if (!(obj instanceof LongInterval)) {
+            return false;
+        }
+
+        LongInterval interval = (LongInterval) obj;
+
+        return l == interval.l
+                && r == interval.r;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + l + ", " + r + "]";
+    }
+
+    @Override
+    public int compareTo(LongInterval o) {
+        int c = Long.compare(l, o.l);
+
+        if (c == 0) {
+            c = Long.compare(r, o.r);
+        }
+
+        return c;
+    }
+
+    public boolean contains(long e) {
+        return e >= l && e <= r;
+    }
+
+    public boolean overlaps(LongInterval interval) {
+        return interval.l <= r && interval.r >= l;
+    }
+
+    private static class Example {
+
+        public static void main(String[] args) {
+            System.out.println("Long Interval Example:");
+            System.out.println("");
+
+            LongInterval interval1 = new LongInterval(10L, 20L), interval2 = new LongInterval(10L, 20L);
+
+            System.out.println("[10, 20] == [10, 20]: " + (interval1 == interval2));
+            System.out.println("");
+
+            System.out.println("[10, 20].hashCode() == [10, 20].hashCode(): " + (interval1.hashCode() == interval2.hashCode()));
+            System.out.println("");
+
+            System.out.println("[10, 20].equals([10, 20]): " + interval1.equals(interval2));
+            System.out.println("");
+
+            System.out.println("[10, 20].compareTo([10, 20]): " + interval1.compareTo(interval2));
+            System.out.println("");
+
+            System.out.println("[10, 20].contains(15): " + interval1.contains(15L));
+            System.out.println("");
+
+            System.out.println("[10, 20].overlaps([15, 25]): " + interval1.overlaps(new LongInterval(15L, 25L)));
+        }
+
+    }
+
+}
@@ -0,0 +1,220 @@
+package simple;
+
+import java.util.Arrays;
+
+/**
+ * @author Manoj Khanna
+ */
+
+public class LongIntervalList {
+
+    public long[] ls, rs;
+    public int n;
+
+    public LongIntervalList(int c) {
+        ls = new long[c];
+        rs = new long[c];
+    }
+
+    public LongIntervalList() {
+        this(16);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder string = new StringBuilder();
+
+        string.append("[");
+
+        for (int i = 0; i < n; i++) {
+            if (i > 0) {
+                string.append(", ");
+            }
+
+            string.append("[").append(ls[i]).append(", ").append(rs[i]).append("]");
+        }
+
+        string.append("]");
+
+        return string.toString();
+    }
+
+    public void add(long l, long r) {
+        if (n == ls.length) {
+            int c = Math.max(2 * n, 16);
+
+            ls = Arrays.copyOf(ls, c);
+            rs = Arrays.copyOf(rs, c);
+        }
+
+        ls[n] = l;
+        rs[n] = r;
+
+        n++;
+    }
+
+    public void add(LongInterval interval) {
+        add(interval.l, interval.r);
+    }
+
+    public LongInterval get(int i) {
+        return new LongInterval(ls[i], rs[i]);
+    }
+
+    public void set(int i, long l, long r) {
+        ls[i] = l;
+        rs[i] = r;
+    }
+
+    public void clear() {
+        n = 0;
+    }
+
+    public boolean contains(int i, long e) {
+        return e >= ls[i] && e <= rs[i];
+    }
+
+    public boolean overlaps(int i, long l, long r) {
+        return l <= rs[i] && r >= ls[i];
+    }
+
+    public int compare(int i, int j) {
+        int c = Long.compare(ls[i], ls[j]);
+
+        if (c == 0) {
+            c = Long.compare(rs[i], rs[j]);
+        }
+
+        return c;
+    }
+
+    public void sort() {
+        sort(null, 0, n - 1);
+    }
+
+    public int[] order() {
+        int[] order = new int[n];
+
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+
+        sort(order, 0, n - 1);
+
+        return order;
+    }
+
+    private void sort(int[] order, int l, int r) {
+        while (r - l > 16) {
+            int m = (l + r) >>> 1;
+
+            if (compare(order, m, l) < 0) {
+                swap(order, m, l);
+            }
+
+            if (compare(order, r, l) < 0) {
+                swap(order, r, l);
+            }
+
+            if (compare(order, r, m) < 0) {
+                swap(order, r, m);
+            }
+
+            int x = order != null ? order[m] : m;
+            long pl = ls[x], pr = rs[x];
+            int i = l, j = r;
+
+            while (i <= j) {
+                while (compare(order, i, pl, pr) < 0) {
+                    i++;
+                }
+
+                while (compare(order, j, pl, pr) > 0) {
+                    j--;
+                }
+
+                if (i <= j) {
+                    swap(order, i++, j--);
+                }
+            }
+
+            if (j - l < r - i) {
+                sort(order, l, j);
+
+                l = i;
+            } else {
+                sort(order, i, r);
+
+                r = j;
+            }
+        }
+
+        for (int i = l + 1; i <= r; i++) {
+            for (int j = i; j > l && compare(order, j, j - 1) < 0; j--) {
+                swap(order, j, j - 1);
+            }
+        }
+    }
+
+    private int compare(int[] order, int i, int j) {
+        return order != null ? compare(order[i], order[j]) : compare(i, j);
+    }
+
+    private int compare(int[] order, int i, long l, long r) {
+        int x = order != null ? order[i] : i, c = Long.compare(ls[x], l);
+
+        if (c == 0) {
+            c = Long.compare(rs[x], r);
+        }
+
+        return c;
+    }
+
+    private void swap(int[] order, int i, int j) {
+        if (order != null) {
+            int x = order[i];
+
+            order[i] = order[j];
+            order[j] = x;
+
+            return;
+        }
+
+        long l = ls[i], r = rs[i];
+
+        ls[i] = ls[j];
+        rs[i] = rs[j];
+        ls[j] = l;
+        rs[j] = r;
+    }
+
+    private static class Example {
+
+        public static void main(String[] args) {
+            System.out.println("Long Interval List Example:");
+            System.out.println("");
+
+            LongIntervalList longIntervalList = new LongIntervalList();
+
+            longIntervalList.add(30, 40);
+            longIntervalList.add(10, 20);
+            longIntervalList.add(15, 25);
+            longIntervalList.add(new LongInterval(10, 15));
+
+            System.out.println("add(...): " + longIntervalList);
+            System.out.println("");
+
+            longIntervalList.sort();
+
+            System.out.println("sort(): " + longIntervalList);
+            System.out.println("");
+
+            System.out.println("get(2): " + longIntervalList.get(2));
+            System.out.println("");
+
+            System.out.println("overlaps(2, 21, 29): " + longIntervalList.overlaps(2, 21, 29));
+        }
+
+    }
+
+}
@@ -0,0 +1,262 @@
+package simple;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * @author Manoj Khanna
+ */
+
+public class RangeSet<E extends Number & Comparable<E>> {
+
+    public final TreeMap<E, E> rangeMap;
+
+    public RangeSet() {
+        rangeMap = new TreeMap<>();
+    }
+
+    public RangeSet(RangeSet<E> rangeSet) {
+        rangeMap = new TreeMap<>(rangeSet.rangeMap);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder string = new StringBuilder();
+
+        string.append("[");
+
+        for (Map.Entry<E, E> entry : rangeMap.entrySet()) {
+            if (string.length() > 1) {
+                string.append(", ");
+            }
+
+            string.append("[").append(entry.getKey()).append(", ").append(entry.getValue()).append(")");
+        }
+
+        string.append("]");
+
+        return string.toString();
+    }
+
+    public int size() {
+        return rangeMap.size();
+    }
+
+    public boolean isEmpty() {
+        return rangeMap.isEmpty();
+    }
+
+    public void add(E l, E r) {
+        if (l.compareTo(r) >= 0) {
+            return;
+        }
+
+        Map.Entry<E, E> entry = rangeMap.floorEntry(l);
+
+        if (entry != null && entry.getValue().compareTo(l) >= 0) {
+            if (entry.getValue().compareTo(r) >= 0) {
+                return;
+            }
+
+            l = entry.getKey();
+        }
+
+        NavigableMap<E, E> subMap = rangeMap.subMap(l, true, r, true);
+
+        if (!subMap.isEmpty()) {
+            E lastR = subMap.lastEntry().getValue();
+
+            if (lastR.compareTo(r) > 0) {
+                r = lastR;
+            }
+
+            subMap.clear();
+        }
+
+        rangeMap.put(l, r);
+    }
+
+    public void remove(E l, E r) {
+        if (l.compareTo(r) >= 0) {
+            return;
+        }
+
+        Map.Entry<E, E> entry = rangeMap.lowerEntry(l);
+
+        if (entry != null && entry.getValue().compareTo(l) > 0) {
+            rangeMap.put(entry.getKey(), l);
+
+            if (entry.getValue().compareTo(r) > 0) {
+                rangeMap.put(r, entry.getValue());
+
+                return;
+            }
+        }
+
+        NavigableMap<E, E> subMap = rangeMap.subMap(l, true, r, false);
+
+        if (!subMap.isEmpty()) {
+            E lastR = subMap.lastEntry().getValue();
+
+            subMap.clear();
+
+            if (lastR.compareTo(r) > 0) {
+                rangeMap.put(r, lastR);
+            }
+        }
+    }
+
+    public boolean contains(E e) {
+        Map.Entry<E, E> entry = rangeMap.floorEntry(e);
+
+        return entry != null && entry.getValue().compareTo(e) > 0;
+    }
+
+    public boolean encloses(E l, E r) {
+        Map.Entry<E, E> entry = rangeMap.floorEntry(l);
+
+        return entry != null && entry.getValue().compareTo(r) >= 0;
+    }
+
+    public boolean intersects(E l, E r) {
+        Map.Entry<E, E> entry = rangeMap.lowerEntry(r);
+
+        return entry != null && entry.getValue().compareTo(l) > 0 && l.compareTo(r) < 0;
+    }
+
+    public Range<E> rangeContaining(E e) {
+        Map.Entry<E, E> entry = rangeMap.floorEntry(e);
+
+        return entry != null && entry.getValue().compareTo(e) > 0
+                ? new Range<>(entry.getKey(), entry.getValue()) : null;
+    }
+
+    public Range<E> span() {
+        return !rangeMap.isEmpty()
+                ? new Range<>(rangeMap.firstKey(), rangeMap.lastEntry().getValue()) : null;
+    }
+
+    public RangeSet<E> complement(E l, E r) {
+        RangeSet<E> rangeSet = new RangeSet<>();
+
+        if (l.compareTo(r) >= 0) {
+            return rangeSet;
+        }
+
+        Map.Entry<E, E> entry = rangeMap.floorEntry(l);
+
+        E x = entry != null && entry.getValue().compareTo(l) > 0 ? entry.getValue() : l;
+
+        for (Map.Entry<E, E> e : rangeMap.subMap(l, false, r, false).entrySet()) {
+            if (x.compareTo(e.getKey()) < 0) {
+                rangeSet.rangeMap.put(x, e.getKey());
+            }
+
+            if (e.getValue().compareTo(x) > 0) {
+                x = e.getValue();
+            }
+        }
+
+        if (x.compareTo(r) < 0) {
+            rangeSet.rangeMap.put(x, r);
+        }
+
+        return rangeSet;
+    }
+
+    public RangeSet<E> gaps() {
+        return !rangeMap.isEmpty()
+                ? complement(rangeMap.firstKey(), rangeMap.lastEntry().getValue()) : new RangeSet<>();
+    }
+
+    public List<Range<E>> ranges() {
+        ArrayList<Range<E>> ranges = new ArrayList<>(rangeMap.size());
+
+        for (Map.Entry<E, E> entry : rangeMap.entrySet()) {
+            ranges.add(new Range<>(entry.getKey(), entry.getValue()));
+        }
+
+        return ranges;
+    }
+
+    public static class Range<E> {
+
+        public final E l, r;
+
+        public Range(E l, E r) {
+            this.l = l;
+            this.r = r;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 + Objects.hashCode(l)) + Objects.hashCode(r);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+
+            if (!(obj instanceof Range)) {
+                return false;
+            }
+
+            Range<?> range = (Range<?>) obj;
+
+            return Objects.equals(l, range.l)
+                    && Objects.equals(r, range.r);
+        }
+
+        @Override
+        public String toString() {
+            return "[" + l + ", " + r + ")";
+        }
+
+    }
+
+    private static class Example {
+
+        public static void main(String[] args) {
+            System.out.println("Range Set Example:");
+            System.out.println("");
+
+            RangeSet<Long> rangeSet = new RangeSet<>();
+
+            rangeSet.add(0L, 100L);
+            rangeSet.add(300L, 400L);
+            rangeSet.add(100L, 150L);
+            rangeSet.add(350L, 500L);
+            rangeSet.add(700L, 800L);
+
+            System.out.println("add(...): " + rangeSet);
+            System.out.println("");
+
+            rangeSet.remove(50L, 60L);
+
+            System.out.println("remove(50, 60): " + rangeSet);
+            System.out.println("");
+
+            System.out.println("encloses(320, 480): " + rangeSet.encloses(320L, 480L));
+            System.out.println("");
+
+            System.out.println("contains(150): " + rangeSet.contains(150L));
+            System.out.println("");
+
+            System.out.println("rangeContaining(320): " + rangeSet.rangeContaining(320L));
+            System.out.println("");
+
+            System.out.println("complement(0, 1000): " + rangeSet.complement(0L, 1000L));
+            System.out.println("");
+
+            System.out.println("gaps(): " + rangeSet.gaps());
+        }
+
+    }
+
+}
@@ -0,0 +1,345 @@
+package tree;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * @author Manoj Khanna
+ */
+
+public class AhoCorasick<V> {
+
+    public final int n;
+    public final int[] offsets, fail, output, depth;
+    public final char[] labels;
+    public final boolean[] terminal;
+    public final Object[] vs;
+
+    public AhoCorasick(Trie<Character, V> trie) {
+        ArrayList<Trie.Node<Character, V>> nodes = new ArrayList<>();
+        nodes.add(trie.rootNode);
+
+        for (int s = 0; s < nodes.size(); s++) {
+            Trie.Node<Character, V> node = nodes.get(s);
+
+            Character[] cs = node.childNodeMap.keySet().toArray(new Character[0]);
+            Arrays.sort(cs);
+
+            for (Character c : cs) {
+                nodes.add(node.childNodeMap.get(c));
+            }
+        }
+
+        n = nodes.size();
+
+        offsets = new int[n + 1];
+        fail = new int[n];
+        output = new int[n];
+        depth = new int[n];
+        labels = new char[n - 1];
+        terminal = new boolean[n];
+        vs = new Object[n];
+
+        int[] parent = new int[n];
+
+        for (int s = 0, t = 1; s < n; s++) {
+            Trie.Node<Character, V> node = nodes.get(s);
+
+            offsets[s] = t - 1;
+            terminal[s] = node.terminal;
+            vs[s] = node.v;
+
+            for (int k = 0; k < node.childNodeMap.size(); k++, t++) {
+                Trie.Node<Character, V> childNode = nodes.get(t);
+
+                labels[t - 1] = childNode.e;
+                parent[t] = s;
+                depth[t] = depth[s] + 1;
+            }
+        }
+
+        offsets[n] = n - 1;
+        output[0] = -1;
+
+        for (int t = 1; t < n; t++) {
+            int p = parent[t], f = 0;
+
+            if (p > 0) {
+                char c = labels[t - 1];
+
+                f = fail[p];
+
+                while (f > 0 && next(f, c) < 0) {
+                    f = fail[f];
+                }
+
+                f = Math.max(next(f, c), 0);
+            }
+
+            fail[t] = f;
+            output[t] = terminal[f] && f > 0 ? f : output[f];
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder string = new StringBuilder();
+
+        for (int s = 0; s < n; s++) {
+            if (s > 0) {
+                string.append("\n");
+            }
+
+            string.append(s).append("\t")
+                    .append(s > 0 ? String.valueOf(labels[s - 1]) : "null").append(terminal[s] ? "*" : "")
+                    .append("\t").append(fail[s])
+                    .append("\t").append(output[s]);
+        }
+
+        return string.toString();
+    }
+
+    public int next(int s, char c) {
+        int l = offsets[s], r = offsets[s + 1] - 1;
+
+        while (l <= r) {
+            int m = (l + r) >>> 1;
+
+            if (labels[m] < c) {
+                l = m + 1;
+            } else if (labels[m] > c) {
+                r = m - 1;
+            } else {
+                return m + 1;
+            }
+        }
+
+        return -1;
+    }
+
+    public int step(int s, char c) {
+        int t;
+
+        while ((t = next(s, c)) < 0 && s > 0) {
+            s = fail[s];
+        }
+
+        return Math.max(t, 0);
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(int s) {
+        return (V) vs[s];
+    }
+
+    public Matcher matcher(Listener<V> listener) {
+        return new Matcher(listener, null);
+    }
+
+    public Matcher matcher(Listener<V> listener, Charset charset) {
+        return new Matcher(listener, charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE));
+    }
+
+    public interface Listener<V> {
+
+        void match(long end, int length, V v);
+
+    }
+
+    public class Matcher {
+
+        public final Listener<V> listener;
+
+        public int s;
+        public long position;
+
+        private final CharsetDecoder decoder;
+        private final CharBuffer buffer;
+        private final ByteBuffer remainder;
+
+        private Matcher(Listener<V> listener, CharsetDecoder decoder) {
+            this.listener = listener;
+            this.decoder = decoder;
+
+            buffer = CharBuffer.allocate(8192);
+            remainder = ByteBuffer.allocate(16);
+        }
+
+        public void feed(char c) {
+            s = step(s, c);
+            position++;
+
+            for (int o = terminal[s] ? s : output[s]; o > 0; o = output[o]) {
+                listener.match(position, depth[o], get(o));
+            }
+        }
+
+        public void feed(char[] cs, int offset, int length) {
+            for (int i = offset; i < offset + length; i++) {
+                feed(cs[i]);
+            }
+        }
+
+        public void feed(CharSequence cs) {
+            for (int i = 0; i < cs.length(); i++) {
+                feed(cs.charAt(i));
+            }
+        }
+
+        public void feed(Reader reader) throws IOException {
+            char[] cs = buffer.array();
+            int l;
+
+            while ((l = reader.read(cs, 0, cs.length)) >= 0) {
+                feed(cs, 0, l);
+            }
+        }
+
+        public void feed(ByteBuffer bytes) {
+            if (decoder == null) {
+                throw new IllegalStateException("Matcher has no charset");
+            }
+
+            while (remainder.position() > 0 && bytes.hasRemaining()) {
+                remainder.put(bytes.get());
+                remainder.flip();
+
+                decode(remainder, false);
+
+                remainder.compact();
+            }
+
+            decode(bytes, false);
+
+            remainder.put(bytes);
+        }
+
+        public void finish() {
+            if (decoder == null) {
+                throw new IllegalStateException("Matcher has no charset");
+            }
+
+            remainder.flip();
+
+            decode(remainder, true);
+
+            remainder.clear();
+
+            while (true) {
+                boolean overflow = decoder.flush(buffer).isOverflow();
+
+                drain();
+
+                if (!overflow) {
+                    break;
+                }
+            }
+
+            decoder.reset();
+        }
+
+        public void reset() {
+            s = 0;
+            position = 0;
+
+            if (decoder != null) {
+                decoder.reset();
+
+                remainder.clear();
+            }
+        }
+
+        private void decode(ByteBuffer bytes, boolean endOfInput) {
+            while (true) {
+                boolean overflow = decoder.decode(bytes, buffer, endOfInput).isOverflow();
+
+                drain();
+
+                if (!overflow) {
+                    break;
+                }
+            }
+        }
+
+        private void drain() {
+            buffer.flip();
+
+            feed(buffer.array(), buffer.position(), buffer.remaining());
+
+            buffer.clear();
+        }
+
+    }
+
+    private static class Example {
+
+        public static void main(String[] args) throws IOException {
+            System.out.println("Aho Corasick Example:");
+            System.out.println("");
+
+            Trie<Character, String> trie = new Trie<>();
+
+            for (String s : new String[]{"he", "she", "his", "hers"}) {
+                Character[] e = new Character[s.length()];
+
+                for (int i = 0; i < e.length; i++) {
+                    e[i] = s.charAt(i);
+                }
+
+                trie.put(s, 0.0, e);
+            }
+
+            AhoCorasick<String> ahoCorasick = new AhoCorasick<>(trie);
+
+            System.out.println("AhoCorasick(...):\n" + ahoCorasick);
+            System.out.println("");
+
+            StringBuilder matches = new StringBuilder();
+
+            AhoCorasick<String>.Matcher matcher = ahoCorasick.matcher(
+                    (end, length, v) -> matches.append(v).append("[").append(end - length).append(", ").append(end).append(") "));
+
+            matcher.feed(new StringReader("ushers"));
+
+            System.out.println("feed(ushers): " + matches);
+            System.out.println("");
+
+            matches.setLength(0);
+
+            matcher = ahoCorasick.matcher(
+                    (end, length, v) -> matches.append(v).append("[").append(end - length).append(", ").append(end).append(") "),
+                    Charset.forName("UTF-8"));
+
+            ByteBuffer bytes = ByteBuffer.wrap("this shell".getBytes(Charset.forName("UTF-8")));
+
+            matcher.feed((ByteBuffer) bytes.limit(6));
+            matcher.feed((ByteBuffer) bytes.limit(bytes.capacity()));
+
+            System.out.println("feed(this shell): " + matches);
+            System.out.println("");
+
+            matches.setLength(0);
+            matcher.reset();
+
+            byte[] utf8 = "ush\u00e9 hers".getBytes(Charset.forName("UTF-8"));
+
+            matcher.feed(ByteBuffer.wrap(utf8, 0, 4));
+            matcher.feed(ByteBuffer.wrap(utf8, 4, utf8.length - 4));
+            matcher.finish();
+
+            System.out.println("feed(ush\\xc3), feed(\\xa9 hers), finish(): " + matches);
+        }
+
+    }
+
+}
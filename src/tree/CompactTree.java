@@ -0,0 +1,309 @@
+package tree;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+/**
+ * @author Manoj Khanna
+ */
+
+public class CompactTree<E> {
+
+    public int n, size;
+    public int[] keys, parent, firstChild, nextSibling;
+    public Object[] es;
+
+    private int free;
+
+    public CompactTree(E e, int c) {
+        keys = new int[c];
+        parent = new int[c];
+        firstChild = new int[c];
+        nextSibling = new int[c];
+        es = new Object[c];
+
+        free = -1;
+
+        allocate(0, e, -1);
+    }
+
+    public CompactTree(E e) {
+        this(e, 16);
+    }
+
+    public CompactTree() {
+        this(null, 16);
+    }
+
+    public CompactTree(Tree<E> tree) {
+        this(tree.rootNode.e);
+
+        ArrayDeque<Tree.Node<E>> nodeStack = new ArrayDeque<>();
+        ArrayDeque<Integer> indexStack = new ArrayDeque<>();
+
+        nodeStack.push(tree.rootNode);
+        indexStack.push(0);
+
+        while (!nodeStack.isEmpty()) {
+            Tree.Node<E> node = nodeStack.pop();
+            int x = indexStack.pop();
+
+            for (Tree.Node<E> childNode : node.childNodeMap.values()) {
+                nodeStack.push(childNode);
+                indexStack.push(addChild(x, childNode.i, childNode.e));
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder string = new StringBuilder();
+
+        int x = 0, d = 0;
+
+        while (x >= 0) {
+            if (d > 0) {
+                string.append("\n");
+            }
+
+            for (int i = 0; i < 4 * d; i++) {
+                string.append(" ");
+            }
+
+            string.append(keys[x]).append("(").append(es[x]).append(")");
+
+            if (firstChild[x] >= 0) {
+                x = firstChild[x];
+                d++;
+
+                continue;
+            }
+
+            while (x > 0 && nextSibling[x] < 0) {
+                x = parent[x];
+                d--;
+            }
+
+            x = x > 0 ? nextSibling[x] : -1;
+        }
+
+        return string.toString();
+    }
+
+    public int child(int x, int i) {
+        for (int y = firstChild[x]; y >= 0; y = nextSibling[y]) {
+            if (keys[y] == i) {
+                return y;
+            }
+        }
+
+        return -1;
+    }
+
+    public int addChild(int x, int i, E e) {
+        int y = child(x, i);
+
+        if (y < 0) {
+            y = allocate(i, e, x);
+
+            nextSibling[y] = firstChild[x];
+            firstChild[x] = y;
+        }
+
+        return y;
+    }
+
+    public void removeChild(int x, int i) {
+        int y = firstChild[x], z = -1;
+
+        while (y >= 0 && keys[y] != i) {
+            z = y;
+            y = nextSibling[y];
+        }
+
+        if (y < 0) {
+            return;
+        }
+
+        if (z >= 0) {
+            nextSibling[z] = nextSibling[y];
+        } else {
+            firstChild[x] = nextSibling[y];
+        }
+
+        z = y;
+
+        while (true) {
+            if (firstChild[z] >= 0) {
+                z = firstChild[z];
+
+                continue;
+            }
+
+            int p = parent[z], s = nextSibling[z];
+
+            release(z);
+
+            if (z == y) {
+                break;
+            }
+
+            firstChild[p] = s;
+            z = s >= 0 ? s : p;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public E get(int x) {
+        return (E) es[x];
+    }
+
+    public void set(int x, E e) {
+        es[x] = e;
+    }
+
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    private int allocate(int i, E e, int p) {
+        int x;
+
+        if (free >= 0) {
+            x = free;
+            free = nextSibling[x];
+        } else {
+            if (n == keys.length) {
+                int c = 2 * n;
+
+                keys = Arrays.copyOf(keys, c);
+                parent = Arrays.copyOf(parent, c);
+                firstChild = Arrays.copyOf(firstChild, c);
+                nextSibling = Arrays.copyOf(nextSibling, c);
+                es = Arrays.copyOf(es, c);
+            }
+
+            x = n++;
+        }
+
+        keys[x] = i;
+        parent[x] = p;
+        firstChild[x] = -1;
+        nextSibling[x] = -1;
+        es[x] = e;
+
+        size++;
+
+        return x;
+    }
+
+    private void release(int x) {
+        parent[x] = -1;
+        firstChild[x] = -1;
+        nextSibling[x] = free;
+        es[x] = null;
+
+        free = x;
+
+        size--;
+    }
+
+    public class Cursor {
+
+        public int x;
+
+        public int key() {
+            return keys[x];
+        }
+
+        public E get() {
+            return CompactTree.this.get(x);
+        }
+
+        public void set(E e) {
+            CompactTree.this.set(x, e);
+        }
+
+        public boolean parent() {
+            return move(CompactTree.this.parent[x]);
+        }
+
+        public boolean firstChild() {
+            return move(CompactTree.this.firstChild[x]);
+        }
+
+        public boolean nextSibling() {
+            return move(CompactTree.this.nextSibling[x]);
+        }
+
+        public boolean child(int i) {
+            return move(CompactTree.this.child(x, i));
+        }
+
+        public void addChild(int i, E e) {
+            CompactTree.this.addChild(x, i, e);
+        }
+
+        public void removeChild(int i) {
+            CompactTree.this.removeChild(x, i);
+        }
+
+        private boolean move(int y) {
+            if (y >= 0) {
+                x = y;
+
+                return true;
+            }
+
+            return false;
+        }
+
+    }
+
+    private static class Example {
+
+        public static void main(String[] args) {
+            System.out.println("Compact Tree Example:");
+            System.out.println("");
+
+            CompactTree<Character> compactTree = new CompactTree<>();
+
+            for (char[] s : new char[][]{
+                    {'a', 'b', 'c'},
+                    {'i', 'j', 'k'},
+                    {'i', 'j', 'p', 'q'},
+                    {'x', 'y', 'z'},
+            }) {
+                CompactTree<Character>.Cursor cursor = compactTree.cursor();
+
+                for (char c : s) {
+                    int i = c - 'a';
+
+                    cursor.addChild(i, c);
+                    cursor.child(i);
+                }
+            }
+
+            System.out.println("addChild(...):\n" + compactTree);
+            System.out.println("");
+
+            CompactTree<Character>.Cursor cursor = compactTree.cursor();
+
+            cursor.child(8);
+            cursor.child(9);
+            cursor.removeChild(15);
+
+            System.out.println("removeChild(15):\n" + compactTree);
+            System.out.println("");
+
+            System.out.println("size: " + compactTree.size);
+            System.out.println("");
+
+            cursor.parent();
+
+            System.out.println("parent(): " + cursor.key() + "(" + cursor.get() + ")");
+        }
+
+    }
+
+}
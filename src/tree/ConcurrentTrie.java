@@ -0,0 +1,423 @@
+package tree;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * @author Manoj Khanna
+ */
+
+public class ConcurrentTrie<E, V> {
+
+    public final AtomicReference<Node<E, V>> root;
+    public final boolean readOnly;
+
+    private ConcurrentTrie(Node<E, V> rootNode, boolean readOnly) {
+        this.readOnly = readOnly;
+
+        root = new AtomicReference<>(rootNode);
+    }
+
+    public ConcurrentTrie() {
+        this(new Node<>(null, false, null, Node.<E, V>empty()), false);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder string = new StringBuilder();
+        ArrayDeque<Iterator<Node<E, V>>> stack = new ArrayDeque<>();
+
+        Node<E, V> rootNode = root.get();
+
+        string.append(rootNode);
+
+        stack.push(Arrays.asList(rootNode.childNodes).iterator());
+
+        while (!stack.isEmpty()) {
+            Iterator<Node<E, V>> iterator = stack.peek();
+
+            if (!iterator.hasNext()) {
+                stack.pop();
+
+                continue;
+            }
+
+            Node<E, V> node = iterator.next();
+
+            string.append("\n");
+
+            for (int i = 0; i < 4 * stack.size(); i++) {
+                string.append(" ");
+            }
+
+            string.append(node);
+
+            stack.push(Arrays.asList(node.childNodes).iterator());
+        }
+
+        return string.toString();
+    }
+
+    @SafeVarargs
+    public final void add(E... e) {
+        update(true, false, null, e);
+    }
+
+    @SafeVarargs
+    public final void put(V v, E... e) {
+        update(true, true, v, e);
+    }
+
+    @SafeVarargs
+    public final void remove(E... e) {
+        update(false, true, null, e);
+    }
+
+    @SafeVarargs
+    public final boolean contains(E... e) {
+        Node<E, V> node = find(e);
+
+        return node != null && node.terminal;
+    }
+
+    @SafeVarargs
+    public final boolean startsWith(E... e) {
+        return find(e) != null;
+    }
+
+    @SafeVarargs
+    public final V get(E... e) {
+        Node<E, V> node = find(e);
+
+        return node != null && node.terminal ? node.v : null;
+    }
+
+    @SafeVarargs
+    public final Iterator<List<E>> iterator(E... e) {
+        Node<E, V> node = find(e);
+
+        if (node == null) {
+            return Collections.emptyIterator();
+        }
+
+        ArrayList<E> key = new ArrayList<>(e.length);
+
+        for (E ei : e) {
+            key.add(ei);
+        }
+
+        return new KeyIterator<>(node, key);
+    }
+
+    public ConcurrentTrie<E, V> snapshot() {
+        return new ConcurrentTrie<>(root.get(), false);
+    }
+
+    public ConcurrentTrie<E, V> readOnlySnapshot() {
+        return readOnly ? this : new ConcurrentTrie<>(root.get(), true);
+    }
+
+    @SafeVarargs
+    private final void update(boolean terminal, boolean replace, V v, E... e) {
+        if (readOnly) {
+            throw new UnsupportedOperationException();
+        }
+
+        @SuppressWarnings("unchecked")
+        Node<E, V>[] path = (Node<E, V>[]) new Node<?, ?>[e.length + 1];
+
+        while (true) {
+            Node<E, V> rootNode = root.get(), node = rootNode;
+
+            int l = 0;
+
+            path[0] = node;
+
+            while (l < e.length && (node = node.child(e[l])) != null) {
+                path[++l] = node;
+            }
+
+            if (l < e.length && !terminal) {
+                return;
+            }
+
+            if (l == e.length && path[l].terminal == terminal && (!terminal || !replace || path[l].v == v)) {
+                return;
+            }
+
+            if (l == e.length) {
+                node = path[l].with(terminal, v);
+            } else {
+                node = new Node<>(e[e.length - 1], true, v, Node.<E, V>empty());
+
+                for (int i = e.length - 1; i > l; i--) {
+                    node = new Node<>(e[i - 1], false, null, Node.<E, V>empty()).withChild(node);
+                }
+
+                node = path[l].withChild(node);
+            }
+
+            for (int i = l - 1; i >= 0; i--) {
+                if (node.childNodes.length == 0 && !node.terminal) {
+                    node = path[i].withoutChild(e[i]);
+                } else {
+                    node = path[i].withChild(node);
+                }
+            }
+
+            if (root.compareAndSet(rootNode, node)) {
+                return;
+            }
+        }
+    }
+
+    @SafeVarargs
+    private final Node<E, V> find(E... e) {
+        Node<E, V> node = root.get();
+
+        for (int i = 0; i < e.length && node != null; i++) {
+            node = node.child(e[i]);
+        }
+
+        return node;
+    }
+
+    public static class Node<E, V> {
+
+        private static final Node<?, ?>[] EMPTY = new Node<?, ?>[0];
+
+        public final E e;
+        public final boolean terminal;
+        public final V v;
+        public final Node<E, V>[] childNodes;
+        public final int[] hashes;
+
+        public Node(E e, boolean terminal, V v, Node<E, V>[] childNodes) {
+            this(e, terminal, v, childNodes, hashes(childNodes));
+        }
+
+        private Node(E e, boolean terminal, V v, Node<E, V>[] childNodes, int[] hashes) {
+            this.e = e;
+            this.terminal = terminal;
+            this.v = v;
+            this.childNodes = childNodes;
+            this.hashes = hashes;
+        }
+
+        private static int[] hashes(Node<?, ?>[] childNodes) {
+            int[] hashes = new int[childNodes.length];
+
+            for (int k = 0; k < childNodes.length; k++) {
+                hashes[k] = Objects.hashCode(childNodes[k].e);
+            }
+
+            return hashes;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <E, V> Node<E, V>[] empty() {
+            return (Node<E, V>[]) EMPTY;
+        }
+
+        @Override
+        public String toString() {
+            return String.valueOf(e) + (terminal ? "*" : "");
+        }
+
+        public Node<E, V> child(E e) {
+            int k = indexOf(e);
+
+            return k >= 0 ? childNodes[k] : null;
+        }
+
+        public Node<E, V> with(boolean terminal, V v) {
+            return new Node<>(e, terminal, terminal ? v : null, childNodes, hashes);
+        }
+
+        public Node<E, V> withChild(Node<E, V> childNode) {
+            int k = indexOf(childNode.e);
+
+            if (k >= 0) {
+                Node<E, V>[] childNodes = this.childNodes.clone();
+                childNodes[k] = childNode;
+
+                return new Node<>(e, terminal, v, childNodes, hashes);
+            }
+
+            k = -k - 1;
+
+            Node<E, V>[] childNodes = Arrays.copyOf(this.childNodes, this.childNodes.length + 1);
+            System.arraycopy(this.childNodes, k, childNodes, k + 1, this.childNodes.length - k);
+            childNodes[k] = childNode;
+
+            int[] hashes = Arrays.copyOf(this.hashes, this.hashes.length + 1);
+            System.arraycopy(this.hashes, k, hashes, k + 1, this.hashes.length - k);
+            hashes[k] = Objects.hashCode(childNode.e);
+
+            return new Node<>(e, terminal, v, childNodes, hashes);
+        }
+
+        public Node<E, V> withoutChild(E e) {
+            int k = indexOf(e);
+
+            if (k < 0) {
+                return this;
+            }
+
+            Node<E, V>[] childNodes = Arrays.copyOf(this.childNodes, this.childNodes.length - 1);
+            System.arraycopy(this.childNodes, k + 1, childNodes, k, childNodes.length - k);
+
+            int[] hashes = Arrays.copyOf(this.hashes, this.hashes.length - 1);
+            System.arraycopy(this.hashes, k + 1, hashes, k, hashes.length - k);
+
+            return new Node<>(this.e, terminal, v, childNodes, hashes);
+        }
+
+        private int indexOf(E e) {
+            int h = Objects.hashCode(e), l = 0, r = hashes.length;
+
+            while (l < r) {
+                int m = (l + r) >>> 1;
+
+                if (hashes[m] < h) {
+                    l = m + 1;
+                } else {
+                    r = m;
+                }
+            }
+
+            for (int k = l; k < hashes.length && hashes[k] == h; k++) {
+                if (Objects.equals(childNodes[k].e, e)) {
+                    return k;
+                }
+            }
+
+            return -l - 1;
+        }
+
+    }
+
+    private static class KeyIterator<E, V> implements Iterator<List<E>> {
+
+        private final ArrayDeque<Node<E, V>> nodeStack;
+        private final ArrayDeque<List<E>> keyStack;
+
+        private List<E> next;
+
+        private KeyIterator(Node<E, V> node, List<E> key) {
+            nodeStack = new ArrayDeque<>();
+            keyStack = new ArrayDeque<>();
+
+            nodeStack.push(node);
+            keyStack.push(key);
+
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public List<E> next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+
+            List<E> key = next;
+
+            advance();
+
+            return key;
+        }
+
+        private void advance() {
+            next = null;
+
+            while (next == null && !nodeStack.isEmpty()) {
+                Node<E, V> node = nodeStack.pop();
+                List<E> key = keyStack.pop();
+
+                for (int k = node.childNodes.length - 1; k >= 0; k--) {
+                    ArrayList<E> childKey = new ArrayList<>(key);
+                    childKey.add(node.childNodes[k].e);
+
+                    nodeStack.push(node.childNodes[k]);
+                    keyStack.push(childKey);
+                }
+
+                if (node.terminal) {
+                    next = key;
+                }
+            }
+        }
+
+    }
+
+    private static class Example {
+
+        public static void main(String[] args) throws InterruptedException {
+            System.out.println("Concurrent Trie Example:");
+            System.out.println("");
+
+            ConcurrentTrie<Character, Integer> concurrentTrie = new ConcurrentTrie<>();
+
+            Thread[] threads = new Thread[4];
+
+            for (int t = 0; t < threads.length; t++) {
+                char c = (char) ('a' + t);
+
+                threads[t] = new Thread(() -> {
+                    concurrentTrie.put(1, c, 'x');
+                    concurrentTrie.put(2, c, 'y');
+                });
+
+                threads[t].start();
+            }
+
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            System.out.println("put(...):\n" + concurrentTrie);
+            System.out.println("");
+
+            ConcurrentTrie<Character, Integer> snapshot = concurrentTrie.readOnlySnapshot();
+
+            concurrentTrie.remove('a', 'x');
+            concurrentTrie.remove('b', 'x');
+
+            System.out.println("remove(a, x), remove(b, x):\n" + concurrentTrie);
+            System.out.println("");
+
+            System.out.println("snapshot.contains(a, x): " + snapshot.contains('a', 'x'));
+            System.out.println("");
+
+            System.out.println("contains(a, x): " + concurrentTrie.contains('a', 'x'));
+            System.out.println("");
+
+            StringBuilder keys = new StringBuilder();
+
+            for (Iterator<List<Character>> iterator = snapshot.iterator('a'); iterator.hasNext(); ) {
+                keys.append(iterator.next()).append(" ");
+            }
+
+            System.out.println("snapshot.iterator(a): " + keys);
+            System.out.println("");
+
+            concurrentTrie.add('c', 'x');
+
+            System.out.println("add(c, x), get(c, x): " + concurrentTrie.get('c', 'x'));
+        }
+
+    }
+
+}
@@ -0,0 +1,332 @@
+package tree;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+/**
+ * @author Manoj Khanna
+ */
+
+public class DoubleArrayTrie {
+
+    public final int n;
+    public final int[] base, check, values;
+
+    public DoubleArrayTrie(byte[][] keys, int[] values) {
+        Integer[] order = new Integer[keys.length];
+
+        for (int k = 0; k < keys.length; k++) {
+            order[k] = k;
+        }
+
+        Arrays.sort(order, (k, l) -> {
+            int c = compare(keys[k], keys[l]);
+
+            return c != 0 ? c : Integer.compare(k, l);
+        });
+
+        byte[][] sortedKeys = new byte[keys.length][];
+        int[] sortedValues = new int[keys.length];
+
+        int m = 0;
+
+        for (int k = 0; k < keys.length; k++) {
+            if (m > 0 && compare(sortedKeys[m - 1], keys[order[k]]) == 0) {
+                m--;
+            }
+
+            sortedKeys[m] = keys[order[k]];
+            sortedValues[m] = values[order[k]];
+
+            m++;
+        }
+
+        n = m;
+
+        this.values = Arrays.copyOf(sortedValues, n);
+
+        int[] base = new int[1024], check = new int[1024], codes = new int[257], ends = new int[257];
+        int size = 1, nextFree = 1;
+
+        check[0] = -1;
+
+        ArrayDeque<int[]> queue = new ArrayDeque<>();
+        queue.add(new int[]{0, 0, n, 0});
+
+        while (!queue.isEmpty()) {
+            int[] item = queue.poll();
+            int s = item[0], begin = item[1], end = item[2], d = item[3], c = 0;
+
+            for (int k = begin; k < end; k++) {
+                int code = d < sortedKeys[k].length ? (sortedKeys[k][d] & 0xff) + 1 : 0;
+
+                if (c == 0 || codes[c - 1] != code) {
+                    codes[c++] = code;
+                }
+
+                ends[c - 1] = k + 1;
+            }
+
+            if (c == 0) {
+                continue;
+            }
+
+            while (nextFree < check.length && check[nextFree] != 0) {
+                nextFree++;
+            }
+
+            int b = Math.max(nextFree - codes[0], 1);
+
+            while (true) {
+                if (b + 257 > check.length) {
+                    base = Arrays.copyOf(base, 2 * (b + 257));
+                    check = Arrays.copyOf(check, base.length);
+                }
+
+                boolean free = true;
+
+                for (int j = 0; j < c && free; j++) {
+                    free = check[b + codes[j]] == 0;
+                }
+
+                if (free) {
+                    break;
+                }
+
+                b++;
+            }
+
+            base[s] = b;
+
+            for (int j = 0, k = begin; j < c; k = ends[j++]) {
+                int t = b + codes[j];
+
+                check[t] = s + 1;
+                size = Math.max(size, t + 1);
+
+                if (codes[j] == 0) {
+                    base[t] = -k - 1;
+                } else {
+                    queue.add(new int[]{t, k, ends[j], d + 1});
+                }
+            }
+        }
+
+        this.base = Arrays.copyOf(base, size + 257);
+        this.check = Arrays.copyOf(check, size + 257);
+    }
+
+    public DoubleArrayTrie(CharSequence[] keys, int[] values) {
+        this(encode(keys), values);
+    }
+
+    private static byte[][] encode(CharSequence[] keys) {
+        byte[][] bytes = new byte[keys.length][];
+
+        for (int k = 0; k < keys.length; k++) {
+            CharSequence key = keys[k];
+
+            int l = 0;
+
+            for (int i = 0, c; i < key.length(); i += Character.charCount(c)) {
+                c = Character.codePointAt(key, i);
+
+                l += c < 0x80 ? 1 : c < 0x800 ? 2 : c < 0x10000 ? 3 : 4;
+            }
+
+            bytes[k] = new byte[l];
+
+            l = 0;
+
+            for (int i = 0, c; i < key.length(); i += Character.charCount(c)) {
+                c = Character.codePointAt(key, i);
+
+                if (c < 0x80) {
+                    bytes[k][l++] = (byte) c;
+                } else if (c < 0x800) {
+                    bytes[k][l++] = (byte) (0xc0 | c >> 6);
+                    bytes[k][l++] = (byte) (0x80 | c & 0x3f);
+                } else if (c < 0x10000) {
+                    bytes[k][l++] = (byte) (0xe0 | c >> 12);
+                    bytes[k][l++] = (byte) (0x80 | c >> 6 & 0x3f);
+                    bytes[k][l++] = (byte) (0x80 | c & 0x3f);
+                } else {
+                    bytes[k][l++] = (byte) (0xf0 | c >> 18);
+                    bytes[k][l++] = (byte) (0x80 | c >> 12 & 0x3f);
+                    bytes[k][l++] = (byte) (0x80 | c >> 6 & 0x3f);
+                    bytes[k][l++] = (byte) (0x80 | c & 0x3f);
+                }
+            }
+        }
+
+        return bytes;
+    }
+
+    private static int compare(byte[] a, byte[] b) {
+        for (int i = 0; i < a.length && i < b.length; i++) {
+            int c = (a[i] & 0xff) - (b[i] & 0xff);
+
+            if (c != 0) {
+                return c;
+            }
+        }
+
+        return a.length - b.length;
+    }
+
+    private int next(int s, int code) {
+        int t = base[s] + code;
+
+        return t >= 0 && t < check.length && check[t] == s + 1 ? t : -1;
+    }
+
+    private int nextCodePoint(int s, int c) {
+        if (c < 0x80) {
+            return next(s, c + 1);
+        }
+
+        int k;
+
+        if (c < 0x800) {
+            s = next(s, (0xc0 | c >> 6) + 1);
+            k = 1;
+        } else if (c < 0x10000) {
+            s = next(s, (0xe0 | c >> 12) + 1);
+            k = 2;
+        } else {
+            s = next(s, (0xf0 | c >> 18) + 1);
+            k = 3;
+        }
+
+        while (--k >= 0 && s >= 0) {
+            s = next(s, (0x80 | c >> 6 * k & 0x3f) + 1);
+        }
+
+        return s;
+    }
+
+    private int leaf(int s) {
+        int t = next(s, 0);
+
+        return t >= 0 ? -base[t] - 1 : -1;
+    }
+
+    public int index(byte[] key) {
+        int s = 0;
+
+        for (int i = 0; i < key.length && s >= 0; i++) {
+            s = next(s, (key[i] & 0xff) + 1);
+        }
+
+        return s >= 0 ? leaf(s) : -1;
+    }
+
+    public int index(CharSequence key) {
+        int s = 0;
+
+        for (int i = 0, c; i < key.length() && s >= 0; i += Character.charCount(c)) {
+            c = Character.codePointAt(key, i);
+            s = nextCodePoint(s, c);
+        }
+
+        return s >= 0 ? leaf(s) : -1;
+    }
+
+    public boolean contains(byte[] key) {
+        return index(key) >= 0;
+    }
+
+    public boolean contains(CharSequence key) {
+        return index(key) >= 0;
+    }
+
+    public int get(byte[] key, int defaultValue) {
+        int k = index(key);
+
+        return k >= 0 ? values[k] : defaultValue;
+    }
+
+    public int get(CharSequence key, int defaultValue) {
+        int k = index(key);
+
+        return k >= 0 ? values[k] : defaultValue;
+    }
+
+    public int longestPrefixMatch(byte[] text, int offset) {
+        int s = 0, l = leaf(0) >= 0 ? 0 : -1;
+
+        for (int i = offset; i < text.length; i++) {
+            s = next(s, (text[i] & 0xff) + 1);
+
+            if (s < 0) {
+                break;
+            }
+
+            if (leaf(s) >= 0) {
+                l = i - offset + 1;
+            }
+        }
+
+        return l;
+    }
+
+    public int longestPrefixMatch(CharSequence text, int offset) {
+        int s = 0, l = leaf(0) >= 0 ? 0 : -1;
+
+        for (int i = offset, c; i < text.length(); i += Character.charCount(c)) {
+            c = Character.codePointAt(text, i);
+            s = nextCodePoint(s, c);
+
+            if (s < 0) {
+                break;
+            }
+
+            if (leaf(s) >= 0) {
+                l = i + Character.charCount(c) - offset;
+            }
+        }
+
+        return l;
+    }
+
+    private static class Example {
+
+        public static void main(String[] args) {
+            System.out.println("Double Array Trie Example:");
+            System.out.println("");
+
+            DoubleArrayTrie doubleArrayTrie = new DoubleArrayTrie(
+                    new String[]{"abc", "ijk", "ijpq", "xyz", "ij", "\u65e5\u672c"},
+                    new int[]{10, 20, 30, 40, 50, 60});
+
+            System.out.println("DoubleArrayTrie(...): n = " + doubleArrayTrie.n + ", base.length = " + doubleArrayTrie.base.length);
+            System.out.println("");
+
+            System.out.println("contains(ijp): " + doubleArrayTrie.contains("ijp"));
+            System.out.println("");
+
+            System.out.println("contains(ijpq): " + doubleArrayTrie.contains("ijpq"));
+            System.out.println("");
+
+            System.out.println("get(ij, -1): " + doubleArrayTrie.get("ij", -1));
+            System.out.println("");
+
+            System.out.println("get(\u65e5\u672c, -1): " + doubleArrayTrie.get("\u65e5\u672c", -1));
+            System.out.println("");
+
+            System.out.println("longestPrefixMatch(ijpqrs, 0): " + doubleArrayTrie.longestPrefixMatch("ijpqrs", 0));
+            System.out.println("");
+
+            System.out.println("longestPrefixMatch(xijkl, 1): " + doubleArrayTrie.longestPrefixMatch("xijkl", 1));
+            System.out.println("");
+
+            DoubleArrayTrie emojiTrie = new DoubleArrayTrie(new String[]{"\ud83d\ude00"}, new int[]{70});
+
+            System.out.println("contains(U+1F600 as UTF-8 bytes): "
+                    + emojiTrie.contains("\ud83d\ude00".getBytes(StandardCharsets.UTF_8)));
+        }
+
+    }
+
+}
@@ -0,0 +1,419 @@
+package tree;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * @author Manoj Khanna
+ */
+
+public class FrozenTrie {
+
+    public static final int MAGIC = 0x54524945, VERSION = 1, HEADER_SIZE = 12;
+
+    private static final int BLOCK_SHIFT = 9, WORDS_PER_BLOCK = 1 << (BLOCK_SHIFT - 6);
+
+    public final int n;
+
+    private final ByteBuffer buffer;
+    private final int words, blocks, louds, ranks, terminals, labels;
+
+    public FrozenTrie(Trie<Character, ?> trie) {
+        ArrayList<Trie.Node<Character, ?>> nodes = new ArrayList<>();
+        nodes.add(trie.rootNode);
+
+        long[] loudsWords = new long[1];
+        int p = 2;
+
+        loudsWords[0] = 1;
+
+        for (int x = 0; x < nodes.size(); x++) {
+            Trie.Node<Character, ?> node = nodes.get(x);
+
+            Character[] cs = node.childNodeMap.keySet().toArray(new Character[0]);
+            Arrays.sort(cs);
+
+            for (Character c : cs) {
+                nodes.add(node.childNodeMap.get(c));
+
+                if (p >>> 6 >= loudsWords.length) {
+                    loudsWords = Arrays.copyOf(loudsWords, 2 * loudsWords.length);
+                }
+
+                loudsWords[p >>> 6] |= 1L << (p & 63);
+                p++;
+            }
+
+            p++;
+        }
+
+        n = nodes.size();
+
+        words = (2 * n + 1 + 63) >>> 6;
+        blocks = (words + WORDS_PER_BLOCK - 1) / WORDS_PER_BLOCK + 1;
+        louds = HEADER_SIZE;
+        ranks = louds + 8 * words;
+        terminals = ranks + 4 * blocks;
+        labels = terminals + 8 * ((n + 63) >>> 6);
+
+        buffer = ByteBuffer.allocate(labels + 2 * n).order(ByteOrder.LITTLE_ENDIAN);
+
+        buffer.putInt(0, MAGIC)
+                .putInt(4, VERSION)
+                .putInt(8, n);
+
+        for (int w = 0, r = 0; w < words; w++) {
+            if (w % WORDS_PER_BLOCK == 0) {
+                buffer.putInt(ranks + 4 * (w / WORDS_PER_BLOCK), r);
+            }
+
+            long word = w < loudsWords.length ? loudsWords[w] : 0;
+
+            buffer.putLong(louds + 8 * w, word);
+
+            r += Long.bitCount(word);
+        }
+
+        buffer.putInt(ranks + 4 * (blocks - 1), n);
+
+        for (int x = 0; x < n; x++) {
+            Trie.Node<Character, ?> node = nodes.get(x);
+
+            if (node.terminal) {
+                int k = terminals + 8 * (x >>> 6);
+
+                buffer.putLong(k, buffer.getLong(k) | 1L << (x & 63));
+            }
+
+            buffer.putChar(labels + 2 * x, x > 0 ? node.e : 0);
+        }
+    }
+
+    public FrozenTrie(File file) throws IOException {
+        this(map(file));
+    }
+
+    private FrozenTrie(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("Not a trie file");
+        }
+
+        n = buffer.getInt(8);
+
+        long w = (2L * n + 1 + 63) >>> 6, b = (w + WORDS_PER_BLOCK - 1) / WORDS_PER_BLOCK + 1;
+
+        if (n < 0 || buffer.capacity() != HEADER_SIZE + 8 * w + 4 * b + 8 * ((n + 63L) >>> 6) + 2L * n) {
+            throw new IOException("Truncated trie file");
+        }
+
+        words = (2 * n + 1 + 63) >>> 6;
+        blocks = (words + WORDS_PER_BLOCK - 1) / WORDS_PER_BLOCK + 1;
+        louds = HEADER_SIZE;
+        ranks = louds + 8 * words;
+        terminals = ranks + 4 * blocks;
+        labels = terminals + 8 * ((n + 63) >>> 6);
+    }
+
+    private static ByteBuffer map(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())
+                    .order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder string = new StringBuilder();
+
+        for (Iterator<String> iterator = iterator(""); iterator.hasNext(); ) {
+            if (string.length() > 0) {
+                string.append("\n");
+            }
+
+            string.append(iterator.next());
+        }
+
+        return string.toString();
+    }
+
+    public void write(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = this.buffer.duplicate();
+            buffer.clear();
+
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    public long size() {
+        return buffer.capacity();
+    }
+
+    public boolean contains(CharSequence key) {
+        int x = find(key);
+
+        return x >= 0 && terminal(x);
+    }
+
+    public boolean startsWith(CharSequence prefix) {
+        return find(prefix) >= 0;
+    }
+
+    public Iterator<String> iterator(CharSequence prefix) {
+        int x = find(prefix);
+
+        return x >= 0 ? new KeyIterator(x, prefix) : Collections.<String>emptyIterator();
+    }
+
+    public boolean terminal(int x) {
+        return (buffer.getLong(terminals + 8 * (x >>> 6)) >>> (x & 63) & 1) != 0;
+    }
+
+    public char label(int x) {
+        return buffer.getChar(labels + 2 * x);
+    }
+
+    public int firstChild(int x) {
+        return rank1(select0(x + 1) + 1);
+    }
+
+    public int degree(int x) {
+        int p = select0(x + 1) + 1;
+
+        return next0(p) - p;
+    }
+
+    public int child(int x, char c) {
+        int p = select0(x + 1) + 1, q = next0(p);
+
+        int first = rank1(p), l = first, r = first + q - p - 1;
+
+        while (l <= r) {
+            int y = (l + r) >>> 1;
+            char d = label(y);
+
+            if (d < c) {
+                l = y + 1;
+            } else if (d > c) {
+                r = y - 1;
+            } else {
+                return y;
+            }
+        }
+
+        return -1;
+    }
+
+    private int find(CharSequence key) {
+        int x = 0;
+
+        for (int i = 0; i < key.length() && x >= 0; i++) {
+            x = child(x, key.charAt(i));
+        }
+
+        return x;
+    }
+
+    private int next0(int p) {
+        int w = p >>> 6;
+        long word = ~word(w) & -1L << (p & 63);
+
+        while (word == 0) {
+            word = ~word(++w);
+        }
+
+        return (w << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    private long word(int w) {
+        return buffer.getLong(louds + 8 * w);
+    }
+
+    private int rank1(int p) {
+        int b = p >>> BLOCK_SHIFT, r = buffer.getInt(ranks + 4 * b);
+
+        for (int w = b * WORDS_PER_BLOCK; w < p >>> 6; w++) {
+            r += Long.bitCount(word(w));
+        }
+
+        if ((p & 63) != 0) {
+            r += Long.bitCount(word(p >>> 6) & (1L << (p & 63)) - 1);
+        }
+
+        return r;
+    }
+
+    private int select0(int k) {
+        int l = 0, r = blocks - 1;
+
+        while (l < r) {
+            int b = (l + r + 1) >>> 1;
+
+            if ((b << BLOCK_SHIFT) - buffer.getInt(ranks + 4 * b) < k) {
+                l = b;
+            } else {
+                r = b - 1;
+            }
+        }
+
+        k -= (l << BLOCK_SHIFT) - buffer.getInt(ranks + 4 * l);
+
+        int w = l * WORDS_PER_BLOCK;
+        long word = ~word(w);
+
+        while (Long.bitCount(word) < k) {
+            k -= Long.bitCount(word);
+            word = ~word(++w);
+        }
+
+        for (int i = 1; i < k; i++) {
+            word &= word - 1;
+        }
+
+        return (w << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    private class KeyIterator implements Iterator<String> {
+
+        private final StringBuilder key;
+
+        private int[] nodeStack, lengthStack;
+
+        private int top;
+        private String next;
+
+        private KeyIterator(int x, CharSequence prefix) {
+            nodeStack = new int[16];
+            lengthStack = new int[16];
+            key = new StringBuilder(prefix);
+
+            if (terminal(x)) {
+                next = key.toString();
+            }
+
+            push(x, prefix.length() + 1);
+
+            if (next == null) {
+                advance();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public String next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+
+            String key = next;
+
+            advance();
+
+            return key;
+        }
+
+        private void push(int x, int l) {
+            int first = firstChild(x), d = degree(x);
+
+            if (top + d > nodeStack.length) {
+                int c = Math.max(2 * nodeStack.length, top + d);
+
+                nodeStack = Arrays.copyOf(nodeStack, c);
+                lengthStack = Arrays.copyOf(lengthStack, c);
+            }
+
+            for (int y = first + d - 1; y >= first; y--) {
+                nodeStack[top] = y;
+                lengthStack[top] = l;
+                top++;
+            }
+        }
+
+        private void advance() {
+            next = null;
+
+            while (next == null && top > 0) {
+                top--;
+
+                int x = nodeStack[top], l = lengthStack[top];
+
+                key.setLength(l - 1);
+                key.append(label(x));
+
+                push(x, l + 1);
+
+                if (terminal(x)) {
+                    next = key.toString();
+                }
+            }
+        }
+
+    }
+
+    private static class Example {
+
+        public static void main(String[] args) throws IOException {
+            System.out.println("Frozen Trie Example:");
+            System.out.println("");
+
+            Trie<Character, Integer> trie = new Trie<>();
+
+            for (String s : new String[]{"abc", "ijk", "ij", "ijpq", "xyz"}) {
+                Character[] e = new Character[s.length()];
+
+                for (int i = 0; i < e.length; i++) {
+                    e[i] = s.charAt(i);
+                }
+
+                trie.add(e);
+            }
+
+            File file = File.createTempFile("trie", ".bin");
+            file.deleteOnExit();
+
+            new FrozenTrie(trie).write(file);
+
+            System.out.println("write(...): " + file.length() + " bytes");
+            System.out.println("");
+
+            FrozenTrie frozenTrie = new FrozenTrie(file);
+
+            System.out.println("FrozenTrie(...):\n" + frozenTrie);
+            System.out.println("");
+
+            System.out.println("contains(ijp): " + frozenTrie.contains("ijp"));
+            System.out.println("");
+
+            System.out.println("startsWith(ijp): " + frozenTrie.startsWith("ijp"));
+            System.out.println("");
+
+            StringBuilder keys = new StringBuilder();
+
+            for (Iterator<String> iterator = frozenTrie.iterator("ij"); iterator.hasNext(); ) {
+                keys.append(iterator.next()).append(" ");
+            }
+
+            System.out.println("iterator(ij): " + keys);
+        }
+
+    }
+
+}
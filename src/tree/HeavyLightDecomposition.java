@@ -0,0 +1,225 @@
+package tree;
+
+import java.util.Arrays;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * @author Manoj Khanna
+ */
+
+public class HeavyLightDecomposition<E> {
+
+    public final TreeIndex<E> treeIndex;
+    public final DoubleBinaryOperator combiner;
+    public final double identity;
+    public final int[] heavy, head, position;
+
+    private final int c;
+    private final double[] segmentTree;
+
+    public HeavyLightDecomposition(TreeIndex<E> treeIndex, ToDoubleFunction<E> valueFunction,
+                                   DoubleBinaryOperator combiner, double identity) {
+        this.treeIndex = treeIndex;
+        this.combiner = combiner;
+        this.identity = identity;
+
+        int n = treeIndex.n;
+
+        heavy = new int[n];
+        head = new int[n];
+        position = new int[n];
+
+        Arrays.fill(heavy, -1);
+
+        int[] childStart = new int[n + 1], children = new int[Math.max(n - 1, 0)];
+
+        for (int i = 1; i < n; i++) {
+            int p = treeIndex.parent[i];
+
+            if (heavy[p] < 0 || treeIndex.size[i] > treeIndex.size[heavy[p]]) {
+                heavy[p] = i;
+            }
+
+            childStart[p + 1]++;
+        }
+
+        for (int i = 0; i < n; i++) {
+            childStart[i + 1] += childStart[i];
+        }
+
+        int[] positions = Arrays.copyOf(childStart, n);
+
+        for (int i = 1; i < n; i++) {
+            children[positions[treeIndex.parent[i]]++] = i;
+        }
+
+        int[] stack = new int[n];
+        int top = 0, t = 0;
+
+        stack[top++] = 0;
+
+        while (top > 0) {
+            int i = stack[--top], p = i > 0 ? treeIndex.parent[i] : -1;
+
+            position[i] = t++;
+            head[i] = p >= 0 && heavy[p] == i ? head[p] : i;
+
+            for (int k = childStart[i]; k < childStart[i + 1]; k++) {
+                if (children[k] != heavy[i]) {
+                    stack[top++] = children[k];
+                }
+            }
+
+            if (heavy[i] >= 0) {
+                stack[top++] = heavy[i];
+            }
+        }
+
+        c = Integer.highestOneBit(Math.max(n - 1, 1)) << 1;
+        segmentTree = new double[2 * c];
+
+        Arrays.fill(segmentTree, identity);
+
+        for (int i = 0; i < n; i++) {
+            segmentTree[c + position[i]] = valueFunction.applyAsDouble(treeIndex.nodes[i].e);
+        }
+
+        for (int k = c - 1; k > 0; k--) {
+            segmentTree[k] = combiner.applyAsDouble(segmentTree[2 * k], segmentTree[2 * k + 1]);
+        }
+    }
+
+    public HeavyLightDecomposition(Tree<E> tree, ToDoubleFunction<E> valueFunction,
+                                   DoubleBinaryOperator combiner, double identity) {
+        this(new TreeIndex<>(tree), valueFunction, combiner, identity);
+    }
+
+    public void update(int i, double value) {
+        int k = c + position[i];
+
+        segmentTree[k] = value;
+
+        for (k >>= 1; k > 0; k >>= 1) {
+            segmentTree[k] = combiner.applyAsDouble(segmentTree[2 * k], segmentTree[2 * k + 1]);
+        }
+    }
+
+    public void update(Tree.Node<E> node, double value) {
+        update(treeIndex.index(node), value);
+    }
+
+    public double get(int i) {
+        return segmentTree[c + position[i]];
+    }
+
+    public double rootPath(int i) {
+        double value = identity;
+
+        while (i >= 0) {
+            int h = head[i];
+
+            value = combiner.applyAsDouble(query(position[h], position[i] + 1), value);
+            i = h > 0 ? treeIndex.parent[h] : -1;
+        }
+
+        return value;
+    }
+
+    public double rootPath(Tree.Node<E> node) {
+        return rootPath(treeIndex.index(node));
+    }
+
+    public double path(int i, int j) {
+        double value = identity;
+
+        while (head[i] != head[j]) {
+            if (treeIndex.depth[head[i]] < treeIndex.depth[head[j]]) {
+                int x = i;
+                i = j;
+                j = x;
+            }
+
+            value = combiner.applyAsDouble(value, query(position[head[i]], position[i] + 1));
+            i = treeIndex.parent[head[i]];
+        }
+
+        return combiner.applyAsDouble(value,
+                query(Math.min(position[i], position[j]), Math.max(position[i], position[j]) + 1));
+    }
+
+    public double path(Tree.Node<E> a, Tree.Node<E> b) {
+        return path(treeIndex.index(a), treeIndex.index(b));
+    }
+
+    public double subtree(int i) {
+        return query(position[i], position[i] + treeIndex.size[i]);
+    }
+
+    public double subtree(Tree.Node<E> node) {
+        return subtree(treeIndex.index(node));
+    }
+
+    private double query(int l, int r) {
+        double left = identity, right = identity;
+
+        for (l += c, r += c; l < r; l >>= 1, r >>= 1) {
+            if ((l & 1) != 0) {
+                left = combiner.applyAsDouble(left, segmentTree[l++]);
+            }
+
+            if ((r & 1) != 0) {
+                right = combiner.applyAsDouble(segmentTree[--r], right);
+            }
+        }
+
+        return combiner.applyAsDouble(left, right);
+    }
+
+    private static class Example {
+
+        public static void main(String[] args) {
+            System.out.println("Heavy Light Decomposition Example:");
+            System.out.println("");
+
+            Tree<Integer> tree = new Tree<>(1);
+
+            tree.rootNode.addChild(0, 2);
+            tree.rootNode.addChild(1, 3);
+
+            Tree.Node<Integer> a = tree.rootNode.childNodeMap.get(0), b = tree.rootNode.childNodeMap.get(1);
+
+            a.addChild(0, 4);
+            a.addChild(1, 5);
+            b.addChild(0, 6);
+
+            Tree.Node<Integer> c = a.childNodeMap.get(1), d = b.childNodeMap.get(0);
+
+            c.addChild(0, 7);
+
+            System.out.println("tree:\n" + tree);
+            System.out.println("");
+
+            HeavyLightDecomposition<Integer> sum = new HeavyLightDecomposition<>(tree, e -> e, Double::sum, 0.0),
+                    max = new HeavyLightDecomposition<>(tree, e -> e, Math::max, Double.NEGATIVE_INFINITY);
+
+            System.out.println("sum.rootPath(c): " + sum.rootPath(c));
+            System.out.println("");
+
+            System.out.println("sum.path(c, d): " + sum.path(c, d));
+            System.out.println("");
+
+            System.out.println("sum.subtree(a): " + sum.subtree(a));
+            System.out.println("");
+
+            System.out.println("max.path(a, d): " + max.path(a, d));
+            System.out.println("");
+
+            sum.update(a, 20);
+
+            System.out.println("sum.update(a, 20), sum.subtree(a): " + sum.subtree(a));
+        }
+
+    }
+
+}
@@ -0,0 +1,395 @@
+package tree;
+
+import simple.Interval;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * @author Manoj Khanna
+ */
+
+public class IntervalTree<E extends Number & Comparable<E>> {
+
+    public Node<E> rootNode;
+    public int n;
+
+    @Override
+    public String toString() {
+        StringBuilder string = new StringBuilder();
+
+        if (rootNode == null) {
+            return string.toString();
+        }
+
+        ArrayDeque<Node<E>> nodeStack = new ArrayDeque<>();
+        ArrayDeque<Integer> depthStack = new ArrayDeque<>();
+
+        nodeStack.push(rootNode);
+        depthStack.push(0);
+
+        while (!nodeStack.isEmpty()) {
+            Node<E> node = nodeStack.pop();
+            int d = depthStack.pop();
+
+            if (d > 0) {
+                string.append("\n");
+            }
+
+            for (int i = 0; i < 4 * d; i++) {
+                string.append(" ");
+            }
+
+            string.append(node);
+
+            if (node.rightNode != null) {
+                nodeStack.push(node.rightNode);
+                depthStack.push(d + 1);
+            }
+
+            if (node.leftNode != null) {
+                nodeStack.push(node.leftNode);
+                depthStack.push(d + 1);
+            }
+        }
+
+        return string.toString();
+    }
+
+    public boolean add(Interval<E> interval) {
+        int n = this.n;
+
+        rootNode = add(rootNode, interval);
+
+        return this.n > n;
+    }
+
+    public boolean remove(Interval<E> interval) {
+        int n = this.n;
+
+        rootNode = remove(rootNode, interval);
+
+        return this.n < n;
+    }
+
+    public boolean contains(Interval<E> interval) {
+        Node<E> node = rootNode;
+
+        while (node != null) {
+            int c = interval.compareTo(node.interval);
+
+            if (c == 0) {
+                return true;
+            }
+
+            node = c < 0 ? node.leftNode : node.rightNode;
+        }
+
+        return false;
+    }
+
+    public boolean overlaps(Interval<E> interval) {
+        Node<E> node = rootNode;
+
+        while (node != null) {
+            if (node.interval.overlaps(interval)) {
+                return true;
+            }
+
+            if (node.leftNode != null && node.leftNode.max.compareTo(interval.l) >= 0) {
+                node = node.leftNode;
+            } else {
+                node = node.rightNode;
+            }
+        }
+
+        return false;
+    }
+
+    public Iterator<Interval<E>> overlapping(Interval<E> interval) {
+        return new OverlapIterator<>(rootNode, interval.l, interval.r);
+    }
+
+    public Iterator<Interval<E>> containing(E e) {
+        return new OverlapIterator<>(rootNode, e, e);
+    }
+
+    private Node<E> add(Node<E> node, Interval<E> interval) {
+        if (node == null) {
+            n++;
+
+            return new Node<>(new Interval<>(interval));
+        }
+
+        int c = interval.compareTo(node.interval);
+
+        if (c < 0) {
+            node.leftNode = add(node.leftNode, interval);
+        } else if (c > 0) {
+            node.rightNode = add(node.rightNode, interval);
+        } else {
+            return node;
+        }
+
+        return balance(node);
+    }
+
+    private Node<E> remove(Node<E> node, Interval<E> interval) {
+        if (node == null) {
+            return null;
+        }
+
+        int c = interval.compareTo(node.interval);
+
+        if (c < 0) {
+            node.leftNode = remove(node.leftNode, interval);
+        } else if (c > 0) {
+            node.rightNode = remove(node.rightNode, interval);
+        } else {
+            n--;
+
+            if (node.leftNode == null) {
+                return node.rightNode;
+            }
+
+            if (node.rightNode == null) {
+                return node.leftNode;
+            }
+
+            Node<E> minNode = node.rightNode;
+
+            while (minNode.leftNode != null) {
+                minNode = minNode.leftNode;
+            }
+
+            minNode.rightNode = removeMin(node.rightNode);
+            minNode.leftNode = node.leftNode;
+
+            return balance(minNode);
+        }
+
+        return balance(node);
+    }
+
+    private Node<E> removeMin(Node<E> node) {
+        if (node.leftNode == null) {
+            return node.rightNode;
+        }
+
+        node.leftNode = removeMin(node.leftNode);
+
+        return balance(node);
+    }
+
+    private Node<E> balance(Node<E> node) {
+        node.update();
+
+        int b = height(node.leftNode) - height(node.rightNode);
+
+        if (b > 1) {
+            if (height(node.leftNode.leftNode) < height(node.leftNode.rightNode)) {
+                node.leftNode = rotateLeft(node.leftNode);
+            }
+
+            return rotateRight(node);
+        }
+
+        if (b < -1) {
+            if (height(node.rightNode.rightNode) < height(node.rightNode.leftNode)) {
+                node.rightNode = rotateRight(node.rightNode);
+            }
+
+            return rotateLeft(node);
+        }
+
+        return node;
+    }
+
+    private Node<E> rotateLeft(Node<E> node) {
+        Node<E> rightNode = node.rightNode;
+
+        node.rightNode = rightNode.leftNode;
+        rightNode.leftNode = node;
+
+        node.update();
+        rightNode.update();
+
+        return rightNode;
+    }
+
+    private Node<E> rotateRight(Node<E> node) {
+        Node<E> leftNode = node.leftNode;
+
+        node.leftNode = leftNode.rightNode;
+        leftNode.rightNode = node;
+
+        node.update();
+        leftNode.update();
+
+        return leftNode;
+    }
+
+    private static int height(Node<?> node) {
+        return node != null ? node.height : 0;
+    }
+
+    public static class Node<E extends Number & Comparable<E>> {
+
+        public final Interval<E> interval;
+
+        public Node<E> leftNode, rightNode;
+        public E max;
+        public int height;
+
+        public Node(Interval<E> interval) {
+            this.interval = interval;
+
+            max = interval.r;
+            height = 1;
+        }
+
+        @Override
+        public String toString() {
+            return interval + "(" + max + ")";
+        }
+
+        public void update() {
+            max = interval.r;
+            height = 1;
+
+            if (leftNode != null) {
+                if (leftNode.max.compareTo(max) > 0) {
+                    max = leftNode.max;
+                }
+
+                height = leftNode.height + 1;
+            }
+
+            if (rightNode != null) {
+                if (rightNode.max.compareTo(max) > 0) {
+                    max = rightNode.max;
+                }
+
+                height = Math.max(height, rightNode.height + 1);
+            }
+        }
+
+    }
+
+    private static class OverlapIterator<E extends Number & Comparable<E>> implements Iterator<Interval<E>> {
+
+        private final E l, r;
+        private final ArrayDeque<Node<E>> stack;
+
+        private Interval<E> next;
+
+        private OverlapIterator(Node<E> node, E l, E r) {
+            this.l = l;
+            this.r = r;
+
+            stack = new ArrayDeque<>();
+
+            pushLeft(node);
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Interval<E> next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+
+            Interval<E> interval = next;
+
+            advance();
+
+            return interval;
+        }
+
+        private void pushLeft(Node<E> node) {
+            while (node != null && node.max.compareTo(l) >= 0) {
+                stack.push(node);
+
+                node = node.leftNode;
+            }
+        }
+
+        private void advance() {
+            next = null;
+
+            while (next == null && !stack.isEmpty()) {
+                Node<E> node = stack.pop();
+
+                if (node.interval.l.compareTo(r) > 0) {
+                    stack.clear();
+
+                    break;
+                }
+
+                if (node.interval.r.compareTo(l) >= 0) {
+                    next = node.interval;
+                }
+
+                pushLeft(node.rightNode);
+            }
+        }
+
+    }
+
+    private static class Example {
+
+        public static void main(String[] args) {
+            System.out.println("Interval Tree Example:");
+            System.out.println("");
+
+            IntervalTree<Integer> intervalTree = new IntervalTree<>();
+
+            for (int[] i : new int[][]{
+                    {15, 20},
+                    {10, 30},
+                    {17, 19},
+                    {5, 20},
+                    {12, 15},
+                    {30, 40},
+            }) {
+                intervalTree.add(new Interval<>(i[0], i[1]));
+            }
+
+            System.out.println("add(...):\n" + intervalTree);
+            System.out.println("");
+
+            intervalTree.remove(new Interval<>(10, 30));
+
+            System.out.println("remove([10, 30]):\n" + intervalTree);
+            System.out.println("");
+
+            System.out.println("overlaps([21, 25]): " + intervalTree.overlaps(new Interval<>(21, 25)));
+            System.out.println("");
+
+            StringBuilder intervals = new StringBuilder();
+
+            for (Iterator<Interval<Integer>> iterator = intervalTree.overlapping(new Interval<>(14, 18)); iterator.hasNext(); ) {
+                intervals.append(iterator.next()).append(" ");
+            }
+
+            System.out.println("overlapping([14, 18]): " + intervals);
+            System.out.println("");
+
+            intervals.setLength(0);
+
+            for (Iterator<Interval<Integer>> iterator = intervalTree.containing(20); iterator.hasNext(); ) {
+                intervals.append(iterator.next()).append(" ");
+            }
+
+            System.out.println("containing(20): " + intervals);
+        }
+
+    }
+
+}
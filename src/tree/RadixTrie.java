@@ -0,0 +1,283 @@
+package tree;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Objects;
+
+/**
+ * @author Manoj Khanna
+ */
+
+public class RadixTrie<E> {
+
+    public final Node<E> rootNode;
+
+    public RadixTrie() {
+        rootNode = new Node<>(new Object[0], null);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder string = new StringBuilder();
+        ArrayDeque<Iterator<Node<E>>> stack = new ArrayDeque<>();
+
+        string.append(rootNode);
+
+        stack.push(rootNode.childNodeMap.values().iterator());
+
+        while (!stack.isEmpty()) {
+            Iterator<Node<E>> iterator = stack.peek();
+
+            if (!iterator.hasNext()) {
+                stack.pop();
+
+                continue;
+            }
+
+            Node<E> node = iterator.next();
+
+            string.append("\n");
+
+            for (int i = 0; i < 4 * stack.size(); i++) {
+                string.append(" ");
+            }
+
+            string.append(node);
+
+            stack.push(node.childNodeMap.values().iterator());
+        }
+
+        return string.toString();
+    }
+
+    @SafeVarargs
+    public final void add(E... e) {
+        Node<E> node = rootNode;
+
+        int i = 0;
+
+        while (i < e.length) {
+            Node<E> childNode = node.childNodeMap.get(e[i]);
+
+            if (childNode == null) {
+                childNode = new Node<>(Arrays.copyOfRange(e, i, e.length, Object[].class), node);
+                childNode.terminal = true;
+
+                node.addChild(childNode);
+
+                return;
+            }
+
+            int j = 0;
+
+            while (j < childNode.label.length && i < e.length && Objects.equals(childNode.label[j], e[i])) {
+                i++;
+                j++;
+            }
+
+            if (j < childNode.label.length) {
+                childNode = childNode.split(j);
+            }
+
+            node = childNode;
+        }
+
+        node.terminal = true;
+    }
+
+    @SafeVarargs
+    public final void remove(E... e) {
+        Node<E> node = find(e);
+
+        if (node == null || !node.terminal) {
+            return;
+        }
+
+        node.terminal = false;
+
+        while (node != rootNode && !node.terminal && node.childNodeMap.isEmpty()) {
+            Node<E> parentNode = node.parentNode;
+
+            parentNode.removeChild(node);
+
+            node = parentNode;
+        }
+
+        if (node != rootNode && !node.terminal && node.childNodeMap.size() == 1) {
+            node.merge();
+        }
+    }
+
+    @SafeVarargs
+    public final boolean contains(E... e) {
+        Node<E> node = find(e);
+
+        return node != null && node.terminal;
+    }
+
+    @SafeVarargs
+    public final boolean startsWith(E... e) {
+        Node<E> node = rootNode;
+
+        int i = 0;
+
+        while (i < e.length) {
+            Node<E> childNode = node.childNodeMap.get(e[i]);
+
+            if (childNode == null) {
+                return false;
+            }
+
+            for (int j = 0; j < childNode.label.length && i < e.length; j++, i++) {
+                if (!Objects.equals(childNode.label[j], e[i])) {
+                    return false;
+                }
+            }
+
+            node = childNode;
+        }
+
+        return true;
+    }
+
+    @SafeVarargs
+    private final Node<E> find(E... e) {
+        Node<E> node = rootNode;
+
+        int i = 0;
+
+        while (i < e.length) {
+            Node<E> childNode = node.childNodeMap.get(e[i]);
+
+            if (childNode == null || childNode.label.length > e.length - i) {
+                return null;
+            }
+
+            for (Object o : childNode.label) {
+                if (!Objects.equals(o, e[i++])) {
+                    return null;
+                }
+            }
+
+            node = childNode;
+        }
+
+        return node;
+    }
+
+    public static class Node<E> {
+
+        public final HashMap<E, Node<E>> childNodeMap;
+
+        public Object[] label;
+        public Node<E> parentNode;
+        public boolean terminal;
+
+        public Node(Object[] label, Node<E> parentNode) {
+            this.label = label;
+            this.parentNode = parentNode;
+
+            childNodeMap = new HashMap<>();
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder string = new StringBuilder();
+
+            for (Object o : label) {
+                string.append(o);
+            }
+
+            if (terminal) {
+                string.append("*");
+            }
+
+            return string.toString();
+        }
+
+        @SuppressWarnings("unchecked")
+        public E first() {
+            return (E) label[0];
+        }
+
+        public void addChild(Node<E> childNode) {
+            childNode.parentNode = this;
+
+            childNodeMap.put(childNode.first(), childNode);
+        }
+
+        public void removeChild(Node<E> childNode) {
+            childNodeMap.remove(childNode.first());
+        }
+
+        public Node<E> split(int j) {
+            Node<E> node = new Node<>(Arrays.copyOf(label, j), parentNode);
+
+            parentNode.addChild(node);
+
+            label = Arrays.copyOfRange(label, j, label.length);
+
+            node.addChild(this);
+
+            return node;
+        }
+
+        public void merge() {
+            Node<E> childNode = childNodeMap.values().iterator().next();
+
+            Object[] label = Arrays.copyOf(this.label, this.label.length + childNode.label.length);
+            System.arraycopy(childNode.label, 0, label, this.label.length, childNode.label.length);
+
+            childNodeMap.clear();
+
+            for (Node<E> grandchildNode : childNode.childNodeMap.values()) {
+                addChild(grandchildNode);
+            }
+
+            this.label = label;
+            terminal = childNode.terminal;
+        }
+
+    }
+
+    private static class Example {
+
+        public static void main(String[] args) {
+            System.out.println("Radix Trie Example:");
+            System.out.println("");
+
+            RadixTrie<Character> radixTrie = new RadixTrie<>();
+
+            for (Character[] c : new Character[][]{
+                    {'a', 'b', 'c'},
+                    {'i', 'j', 'k'},
+                    {'i', 'j', 'p', 'q'},
+                    {'x', 'y', 'z'},
+            }) {
+                radixTrie.add(c);
+            }
+
+            System.out.println("add(...):\n" + radixTrie);
+            System.out.println("");
+
+            radixTrie.remove('i', 'j', 'p', 'q');
+
+            System.out.println("remove(i, j, p, q):\n" + radixTrie);
+            System.out.println("");
+
+            System.out.println("contains(x, y): " + radixTrie.contains('x', 'y'));
+            System.out.println("");
+
+            System.out.println("startsWith(x, y): " + radixTrie.startsWith('x', 'y'));
+            System.out.println("");
+
+            radixTrie.add('i', 'j');
+
+            System.out.println("add(i, j):\n" + radixTrie);
+        }
+
+    }
+
+}
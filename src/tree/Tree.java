@@ -1,6 +1,10 @@
 package tree;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
 import java.util.HashMap;
+import java.util.Iterator;
 
 /**
  * @author Manoj Khanna
@@ -20,27 +24,67 @@ public class Tree<E> {
 
     @Override
     public String toString() {
-        return toString(rootNode, 0);
+        StringBuilder string = new StringBuilder();
+
+        try {
+            write(string);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return string.toString();
     }
 
-    private String toString(Node<E> node, int d) {
-        StringBuilder string = new StringBuilder();
+    public void write(Appendable appendable) throws IOException {
+        write(appendable, false);
+    }
 
-        if (d > 0) {
-            string.append("\n");
+    public void export(Appendable appendable) throws IOException {
+        write(appendable, true);
+    }
+
+    private void write(Appendable appendable, boolean export) throws IOException {
+        ArrayDeque<Iterator<Node<E>>> stack = new ArrayDeque<>();
+
+        writeNode(appendable, rootNode, 0, export);
+
+        stack.push(rootNode.childNodeMap.values().iterator());
+
+        while (!stack.isEmpty()) {
+            Iterator<Node<E>> iterator = stack.peek();
+
+            if (!iterator.hasNext()) {
+                stack.pop();
+
+                continue;
+            }
+
+            Node<E> node = iterator.next();
+
+            writeNode(appendable, node, stack.size(), export);
+
+            stack.push(node.childNodeMap.values().iterator());
         }
+    }
 
-        for (int i = 0; i < 4 * d; i++) {
-            string.append(" ");
+    private void writeNode(Appendable appendable, Node<E> node, int d, boolean export) throws IOException {
+        if (export) {
+            appendable.append(String.valueOf(d)).append('\t')
+                    .append(String.valueOf(node.i)).append('\t').append(String.valueOf(node.e))
+                    .append('\n');
+
+            return;
         }
 
-        string.append(node);
+        if (d > 0) {
+            appendable.append('\n');
+        }
 
-        for (Node<E> childNode : node.childNodeMap.values()) {
-            string.append(toString(childNode, d + 1));
+        for (int i = 0; i < 4 * d; i++) {
+            appendable.append(' ');
         }
 
-        return string.toString();
+        appendable.append(String.valueOf(node));
     }
 
     public static class Node<E> {
@@ -110,6 +154,17 @@ public class Tree<E> {
                     .removeChild(15);
 
             System.out.println("removeChild(15):\n" + tree);
+            System.out.println("");
+
+            StringBuilder string = new StringBuilder();
+
+            try {
+                tree.export(string);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            System.out.println("export(...):\n" + string);
         }
 
     }
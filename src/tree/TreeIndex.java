@@ -0,0 +1,223 @@
+package tree;
+
+import java.util.ArrayDeque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * @author Manoj Khanna
+ */
+
+public class TreeIndex<E> {
+
+    public final Tree<E> tree;
+    public final int n;
+    public final Tree.Node<E>[] nodes;
+    public final int[] parent, depth, size;
+
+    private final IdentityHashMap<Tree.Node<E>, Integer> indexMap;
+    private final int[] levelStart, levelNodes;
+    private final int[][] sparseTable;
+
+    @SuppressWarnings("unchecked")
+    public TreeIndex(Tree<E> tree) {
+        this.tree = tree;
+
+        indexMap = new IdentityHashMap<>();
+
+        ArrayDeque<Tree.Node<E>> stack = new ArrayDeque<>();
+        stack.push(tree.rootNode);
+
+        while (!stack.isEmpty()) {
+            Tree.Node<E> node = stack.pop();
+
+            indexMap.put(node, indexMap.size());
+
+            for (Tree.Node<E> childNode : node.childNodeMap.values()) {
+                stack.push(childNode);
+            }
+        }
+
+        n = indexMap.size();
+        nodes = (Tree.Node<E>[]) new Tree.Node<?>[n];
+        parent = new int[n];
+        depth = new int[n];
+        size = new int[n];
+
+        for (Map.Entry<Tree.Node<E>, Integer> entry : indexMap.entrySet()) {
+            nodes[entry.getValue()] = entry.getKey();
+        }
+
+        int h = 0;
+
+        for (int i = 0; i < n; i++) {
+            parent[i] = i > 0 ? indexMap.get(nodes[i].parentNode) : -1;
+            depth[i] = i > 0 ? depth[parent[i]] + 1 : 0;
+            size[i] = 1;
+
+            h = Math.max(h, depth[i]);
+        }
+
+        for (int i = n - 1; i > 0; i--) {
+            size[parent[i]] += size[i];
+        }
+
+        levelStart = new int[h + 2];
+        levelNodes = new int[n];
+
+        for (int i = 0; i < n; i++) {
+            levelStart[depth[i] + 1]++;
+        }
+
+        for (int d = 0; d <= h; d++) {
+            levelStart[d + 1] += levelStart[d];
+        }
+
+        int[] positions = levelStart.clone();
+
+        for (int i = 0; i < n; i++) {
+            levelNodes[positions[depth[i]]++] = i;
+        }
+
+        int l = 32 - Integer.numberOfLeadingZeros(n);
+
+        sparseTable = new int[l][];
+        sparseTable[0] = new int[n];
+
+        for (int i = 0; i < n; i++) {
+            sparseTable[0][i] = i;
+        }
+
+        for (int j = 1; j < l; j++) {
+            sparseTable[j] = new int[n - (1 << j) + 1];
+
+            for (int i = 0; i + (1 << j) <= n; i++) {
+                int x = sparseTable[j - 1][i], y = sparseTable[j - 1][i + (1 << (j - 1))];
+
+                sparseTable[j][i] = depth[x] <= depth[y] ? x : y;
+            }
+        }
+    }
+
+    public int index(Tree.Node<E> node) {
+        Integer i = indexMap.get(node);
+
+        return i != null ? i : -1;
+    }
+
+    public int lca(int i, int j) {
+        if (i == j) {
+            return i;
+        }
+
+        if (i > j) {
+            int x = i;
+            i = j;
+            j = x;
+        }
+
+        int l = i + 1, k = 31 - Integer.numberOfLeadingZeros(j - l + 1);
+        int x = sparseTable[k][l], y = sparseTable[k][j - (1 << k) + 1];
+
+        return parent[depth[x] <= depth[y] ? x : y];
+    }
+
+    public Tree.Node<E> lca(Tree.Node<E> a, Tree.Node<E> b) {
+        return nodes[lca(index(a), index(b))];
+    }
+
+    public boolean isAncestor(int i, int j) {
+        return i <= j && j < i + size[i];
+    }
+
+    public boolean isAncestor(Tree.Node<E> a, Tree.Node<E> b) {
+        return isAncestor(index(a), index(b));
+    }
+
+    public int depth(Tree.Node<E> node) {
+        return depth[index(node)];
+    }
+
+    public int kthAncestor(int i, int k) {
+        int d = depth[i] - k;
+
+        if (k < 0 || d < 0) {
+            return -1;
+        }
+
+        int l = levelStart[d], r = levelStart[d + 1] - 1;
+
+        while (l < r) {
+            int m = (l + r + 1) >>> 1;
+
+            if (levelNodes[m] <= i) {
+                l = m;
+            } else {
+                r = m - 1;
+            }
+        }
+
+        return levelNodes[l];
+    }
+
+    public Tree.Node<E> kthAncestor(Tree.Node<E> node, int k) {
+        int i = kthAncestor(index(node), k);
+
+        return i >= 0 ? nodes[i] : null;
+    }
+
+    private static class Example {
+
+        public static void main(String[] args) {
+            System.out.println("Tree Index Example:");
+            System.out.println("");
+
+            Tree<Character> tree = new Tree<>('/');
+
+            for (char[] s : new char[][]{
+                    {'a', 'b', 'c'},
+                    {'i', 'j', 'k'},
+                    {'i', 'j', 'p', 'q'},
+                    {'x', 'y', 'z'},
+            }) {
+                Tree.Node<Character> node = tree.rootNode;
+
+                for (char c : s) {
+                    int i = c - 'a';
+
+                    node.addChild(i, c);
+
+                    node = node.childNodeMap.get(i);
+                }
+            }
+
+            System.out.println("tree:\n" + tree);
+            System.out.println("");
+
+            TreeIndex<Character> treeIndex = new TreeIndex<>(tree);
+
+            Tree.Node<Character> k = tree.rootNode.childNodeMap.get(8).childNodeMap.get(9).childNodeMap.get(10),
+                    q = tree.rootNode.childNodeMap.get(8).childNodeMap.get(9).childNodeMap.get(15).childNodeMap.get(16),
+                    z = tree.rootNode.childNodeMap.get(23).childNodeMap.get(24).childNodeMap.get(25);
+
+            System.out.println("lca(k, q): " + treeIndex.lca(k, q));
+            System.out.println("");
+
+            System.out.println("lca(k, z): " + treeIndex.lca(k, z));
+            System.out.println("");
+
+            System.out.println("depth(q): " + treeIndex.depth(q));
+            System.out.println("");
+
+            System.out.println("kthAncestor(q, 2): " + treeIndex.kthAncestor(q, 2));
+            System.out.println("");
+
+            System.out.println("isAncestor(lca(k, q), q): " + treeIndex.isAncestor(treeIndex.lca(k, q), q));
+            System.out.println("");
+
+            System.out.println("isAncestor(k, q): " + treeIndex.isAncestor(k, q));
+        }
+
+    }
+
+}
@@ -1,14 +1,23 @@
 package tree;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
 
 /**
  * @author Manoj Khanna
  */
 
-public class Trie<E> {
+public class Trie<E, V> {
 
-    public final Node<E> rootNode;
+    public final Node<E, V> rootNode;
 
     public Trie(E e) {
         rootNode = new Node<>(e, null);
@@ -20,94 +29,256 @@ public class Trie<E> {
 
     @Override
     public String toString() {
-        return toString(rootNode, 0);
+        StringBuilder string = new StringBuilder();
+
+        try {
+            write(string);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return string.toString();
     }
 
-    private String toString(Node<E> node, int d) {
-        StringBuilder string = new StringBuilder();
+    public void write(Appendable appendable) throws IOException {
+        write(appendable, false);
+    }
 
-        if (d > 0) {
-            string.append("\n");
+    public void export(Appendable appendable) throws IOException {
+        write(appendable, true);
+    }
+
+    private void write(Appendable appendable, boolean export) throws IOException {
+        ArrayDeque<Iterator<Node<E, V>>> stack = new ArrayDeque<>();
+
+        writeNode(appendable, rootNode, 0, export);
+
+        stack.push(rootNode.childNodeMap.values().iterator());
+
+        while (!stack.isEmpty()) {
+            Iterator<Node<E, V>> iterator = stack.peek();
+
+            if (!iterator.hasNext()) {
+                stack.pop();
+
+                continue;
+            }
+
+            Node<E, V> node = iterator.next();
+
+            writeNode(appendable, node, stack.size(), export);
+
+            stack.push(node.childNodeMap.values().iterator());
         }
+    }
 
-        for (int i = 0; i < 4 * d; i++) {
-            string.append(" ");
+    private void writeNode(Appendable appendable, Node<E, V> node, int d, boolean export) throws IOException {
+        if (export) {
+            appendable.append(String.valueOf(d)).append('\t')
+                    .append(String.valueOf(node.e))
+                    .append('\n');
+
+            return;
         }
 
-        string.append(node);
+        if (d > 0) {
+            appendable.append('\n');
+        }
 
-        for (Node<E> childNode : node.childNodeMap.values()) {
-            string.append(toString(childNode, d + 1));
+        for (int i = 0; i < 4 * d; i++) {
+            appendable.append(' ');
         }
 
-        return string.toString();
+        appendable.append(String.valueOf(node));
     }
 
     @SafeVarargs
     public final void add(E... e) {
-        Node<E> node = rootNode;
+        Node<E, V> node = insert(e);
 
-        for (E ei : e) {
-            node.addChild(ei);
+        if (!node.terminal) {
+            node.terminal = true;
 
-            node = node.childNodeMap.get(ei);
+            node.update();
         }
     }
 
     @SafeVarargs
-    public final void remove(E... e) {
-        Node<E> node = rootNode;
+    public final void put(V v, double score, E... e) {
+        Node<E, V> node = insert(e);
 
-        for (E ei : e) {
-            if (!node.childNodeMap.containsKey(ei)) {
-                return;
-            }
+        node.terminal = true;
+        node.v = v;
+        node.score = score;
 
-            node = node.childNodeMap.get(ei);
+        node.update();
+    }
+
+    @SafeVarargs
+    public final void remove(E... e) {
+        Node<E, V> node = find(e);
+
+        if (node == null || !node.terminal) {
+            return;
         }
 
+        node.terminal = false;
+        node.v = null;
+        node.score = 0.0;
+
         int i = e.length - 1;
 
-        while (node != rootNode) {
+        while (node != rootNode && !node.terminal && node.childNodeMap.isEmpty()) {
             node = node.parentNode;
 
             node.removeChild(e[i]);
 
             i--;
         }
+
+        node.update();
     }
 
     @SafeVarargs
     public final boolean contains(E... e) {
-        Node<E> node = rootNode;
+        Node<E, V> node = find(e);
 
-        for (E ei : e) {
-            if (!node.childNodeMap.containsKey(ei)) {
-                return false;
+        return node != null && node.terminal;
+    }
+
+    @SafeVarargs
+    public final boolean startsWith(E... e) {
+        return find(e) != null;
+    }
+
+    @SafeVarargs
+    public final V get(E... e) {
+        Node<E, V> node = find(e);
+
+        return node != null && node.terminal ? node.v : null;
+    }
+
+    @SafeVarargs
+    public final Iterator<Node<E, V>> iterator(E... e) {
+        Node<E, V> node = find(e);
+
+        return node != null ? new TerminalIterator<>(node) : Collections.<Node<E, V>>emptyIterator();
+    }
+
+    @SafeVarargs
+    public final List<Node<E, V>> topK(int k, E... e) {
+        List<Node<E, V>> nodes = new ArrayList<>();
+        Node<E, V> node = find(e);
+
+        if (node == null) {
+            return nodes;
+        }
+
+        PriorityQueue<Candidate<E, V>> queue = new PriorityQueue<>();
+        queue.add(new Candidate<>(node, node.best, false));
+
+        while (!queue.isEmpty() && nodes.size() < k) {
+            Candidate<E, V> candidate = queue.poll();
+
+            if (candidate.terminal) {
+                nodes.add(candidate.node);
+
+                continue;
             }
 
+            if (candidate.node.terminal) {
+                queue.add(new Candidate<>(candidate.node, candidate.node.score, true));
+            }
+
+            for (Node<E, V> childNode : candidate.node.childNodeMap.values()) {
+                queue.add(new Candidate<>(childNode, childNode.best, false));
+            }
+        }
+
+        return nodes;
+    }
+
+    @SafeVarargs
+    private final Node<E, V> insert(E... e) {
+        Node<E, V> node = rootNode;
+
+        for (E ei : e) {
+            node.addChild(ei);
+
+            node = node.childNodeMap.get(ei);
+        }
+
+        return node;
+    }
+
+    @SafeVarargs
+    private final Node<E, V> find(E... e) {
+        Node<E, V> node = rootNode;
+
+        for (E ei : e) {
             node = node.childNodeMap.get(ei);
+
+            if (node == null) {
+                return null;
+            }
         }
 
-        return true;
+        return node;
     }
 
-    public static class Node<E> {
+    public static class Node<E, V> {
 
         public final E e;
-        public final Node<E> parentNode;
-        public final HashMap<E, Node<E>> childNodeMap;
+        public final Node<E, V> parentNode;
+        public final HashMap<E, Node<E, V>> childNodeMap;
+
+        public boolean terminal;
+        public V v;
+        public double score, best;
 
-        public Node(E e, Node<E> parentNode) {
+        public Node(E e, Node<E, V> parentNode) {
             this.e = e;
             this.parentNode = parentNode;
 
             childNodeMap = new HashMap<>();
+            best = Double.NEGATIVE_INFINITY;
         }
 
         @Override
         public String toString() {
-            return String.valueOf(e);
+            return String.valueOf(e) + (terminal ? "*" : "");
+        }
+
+        public List<E> key() {
+            ArrayList<E> key = new ArrayList<>();
+
+            for (Node<E, V> node = this; node.parentNode != null; node = node.parentNode) {
+                key.add(node.e);
+            }
+
+            Collections.reverse(key);
+
+            return key;
+        }
+
+        public void update() {
+            update(null);
+        }
+
+        public void update(Node<E, V> stopNode) {
+            for (Node<E, V> node = this; node != stopNode; node = node.parentNode) {
+                double best = node.terminal ? node.score : Double.NEGATIVE_INFINITY;
+
+                for (Node<E, V> childNode : node.childNodeMap.values()) {
+                    best = Math.max(best, childNode.best);
+                }
+
+                if (best == node.best && node != this) {
+                    return;
+                }
+
+                node.best = best;
+            }
         }
 
         public void addChild(E e) {
@@ -118,7 +289,9 @@ public class Trie<E> {
 
         public void removeChild(E e) {
             if (childNodeMap.containsKey(e)) {
-                if (childNodeMap.get(e).childNodeMap.isEmpty()) {
+                Node<E, V> childNode = childNodeMap.get(e);
+
+                if (!childNode.terminal && childNode.childNodeMap.isEmpty()) {
                     childNodeMap.remove(e);
                 }
             }
@@ -126,13 +299,87 @@ public class Trie<E> {
 
     }
 
+    private static class TerminalIterator<E, V> implements Iterator<Node<E, V>> {
+
+        private final ArrayDeque<Node<E, V>> stack;
+
+        private Node<E, V> next;
+
+        private TerminalIterator(Node<E, V> node) {
+            stack = new ArrayDeque<>();
+            stack.push(node);
+
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Node<E, V> next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+
+            Node<E, V> node = next;
+
+            advance();
+
+            return node;
+        }
+
+        private void advance() {
+            next = null;
+
+            while (next == null && !stack.isEmpty()) {
+                Node<E, V> node = stack.pop();
+
+                for (Node<E, V> childNode : node.childNodeMap.values()) {
+                    stack.push(childNode);
+                }
+
+                if (node.terminal) {
+                    next = node;
+                }
+            }
+        }
+
+    }
+
+    private static class Candidate<E, V> implements Comparable<Candidate<E, V>> {
+
+        private final Node<E, V> node;
+        private final double score;
+        private final boolean terminal;
+
+        private Candidate(Node<E, V> node, double score, boolean terminal) {
+            this.node = node;
+            this.score = score;
+            this.terminal = terminal;
+        }
+
+        @Override
+        public int compareTo(Candidate<E, V> o) {
+            int c = Double.compare(o.score, score);
+
+            if (c == 0) {
+                c = Boolean.compare(o.terminal, terminal);
+            }
+
+            return c;
+        }
+
+    }
+
     private static class Example {
 
         public static void main(String[] args) {
             System.out.println("Trie Example:");
             System.out.println("");
 
-            Trie<Character> trie = new Trie<>();
+            Trie<Character, String> trie = new Trie<>();
 
             for (Character[] c : new Character[][]{
                     {'a', 'b', 'c'},
@@ -152,6 +399,54 @@ public class Trie<E> {
             System.out.println("");
 
             System.out.println("contains(x, y): " + trie.contains('x', 'y'));
+            System.out.println("");
+
+            System.out.println("startsWith(x, y): " + trie.startsWith('x', 'y'));
+            System.out.println("");
+
+            trie.put("ij", 5.0, 'i', 'j');
+            trie.put("ijk", 3.0, 'i', 'j', 'k');
+            trie.put("ijl", 9.0, 'i', 'j', 'l');
+            trie.put("ijm", 1.0, 'i', 'j', 'm');
+
+            System.out.println("put(...):\n" + trie);
+            System.out.println("");
+
+            System.out.println("get(i, j): " + trie.get('i', 'j'));
+            System.out.println("");
+
+            trie.add('i', 'j');
+
+            System.out.println("add(i, j), get(i, j): " + trie.get('i', 'j'));
+            System.out.println("");
+
+            StringBuilder keys = new StringBuilder();
+
+            for (Iterator<Node<Character, String>> iterator = trie.iterator('i'); iterator.hasNext(); ) {
+                keys.append(iterator.next().key()).append(" ");
+            }
+
+            System.out.println("iterator(i): " + keys);
+            System.out.println("");
+
+            StringBuilder topK = new StringBuilder();
+
+            for (Node<Character, String> node : trie.topK(2, 'i')) {
+                topK.append(node.v).append("(").append(node.score).append(") ");
+            }
+
+            System.out.println("topK(2, i): " + topK);
+            System.out.println("");
+
+            StringBuilder string = new StringBuilder();
+
+            try {
+                trie.export(string);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            System.out.println("export(...):\n" + string);
         }
 
     }
@@ -0,0 +1,292 @@
+package tree;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.IntStream;
+
+/**
+ * @author Manoj Khanna
+ */
+
+public class TrieLoader<E, V> {
+
+    public final Trie<E, V> trie;
+    public final ForkJoinPool pool;
+    public final int c;
+
+    public TrieLoader(Trie<E, V> trie, ForkJoinPool pool, int c) {
+        this.trie = trie;
+        this.pool = pool;
+        this.c = c;
+    }
+
+    public TrieLoader(Trie<E, V> trie, ForkJoinPool pool) {
+        this(trie, pool, 1 << 20);
+    }
+
+    public TrieLoader(Trie<E, V> trie) {
+        this(trie, null);
+    }
+
+    public void add(Iterator<E[]> iterator) {
+        put(iterator, e -> e, null, e -> 0.0);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> void put(Iterator<T> iterator, Function<T, E[]> keyFunction, Function<T, V> vFunction,
+                        ToDoubleFunction<T> scoreFunction) {
+        int l = Math.min(c, 16);
+        Object[][] keys = new Object[l][];
+        Object[] vs = new Object[l];
+        double[] scores = new double[l];
+
+        int n = 0;
+
+        while (iterator.hasNext()) {
+            T t = iterator.next();
+
+            if (n == c) {
+                put(keys, vFunction != null ? (V[]) vs : null, scores, n);
+
+                n = 0;
+            } else if (n == keys.length) {
+                l = (int) Math.min(2L * n, c);
+
+                keys = Arrays.copyOf(keys, l);
+                vs = Arrays.copyOf(vs, l);
+                scores = Arrays.copyOf(scores, l);
+            }
+
+            keys[n] = keyFunction.apply(t);
+            vs[n] = vFunction != null ? vFunction.apply(t) : null;
+            scores[n] = scoreFunction.applyAsDouble(t);
+
+            n++;
+        }
+
+        put(keys, vFunction != null ? (V[]) vs : null, scores, n);
+    }
+
+    private void put(Object[][] keys, V[] vs, double[] scores, int n) {
+        Trie.Node<E, V> rootNode = trie.rootNode;
+
+        int[] order = new int[n];
+
+        for (int k = 0; k < n; k++) {
+            order[k] = k;
+        }
+
+        int limit = pool != null ? Math.max(n / (4 * pool.getParallelism()), 1 << 10) : n;
+
+        ArrayList<Group<E, V>> groups = new ArrayList<>();
+
+        split(keys, vs, scores, order, new int[n], 0, n, rootNode, 0, limit, groups);
+
+        forEach(groups.size(), i -> {
+            Group<E, V> group = groups.get(i);
+
+            ArrayList<Trie.Node<E, V>> path = new ArrayList<>();
+            path.add(group.node);
+
+            Object[] previousKey = null;
+
+            for (int j = group.l; j < group.r; j++) {
+                int k = order[j];
+                Object[] key = keys[k];
+
+                int l = group.depth;
+
+                if (previousKey != null) {
+                    while (l < key.length && l < previousKey.length && l + 1 - group.depth < path.size()
+                            && Objects.equals(key[l], previousKey[l])) {
+                        l++;
+                    }
+                }
+
+                while (path.size() > l + 1 - group.depth) {
+                    path.remove(path.size() - 1);
+                }
+
+                Trie.Node<E, V> node = path.get(l - group.depth);
+
+                for (; l < key.length; l++) {
+                    @SuppressWarnings("unchecked")
+                    E e = (E) key[l];
+
+                    node.addChild(e);
+
+                    node = node.childNodeMap.get(e);
+
+                    path.add(node);
+                }
+
+                set(node, vs, scores, k, group.node);
+
+                previousKey = key;
+            }
+        });
+
+        for (Group<E, V> group : groups) {
+            group.node.update();
+        }
+
+        rootNode.update();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void split(Object[][] keys, V[] vs, double[] scores, int[] order, int[] buffer, int l, int r,
+                       Trie.Node<E, V> node, int depth, int limit, ArrayList<Group<E, V>> groups) {
+        if (depth > 0 && r - l <= limit) {
+            groups.add(new Group<>(node, depth, l, r));
+
+            return;
+        }
+
+        HashMap<E, Integer> indexMap = new HashMap<>();
+        int[] indexes = new int[r - l], counts = new int[16];
+        int g = 0;
+
+        for (int j = l; j < r; j++) {
+            Object[] key = keys[order[j]];
+
+            if (key.length == depth) {
+                set(node, vs, scores, order[j], trie.rootNode);
+
+                indexes[j - l] = -1;
+
+                continue;
+            }
+
+            E e = (E) key[depth];
+            Integer x = indexMap.get(e);
+
+            if (x == null) {
+                node.addChild(e);
+
+                x = g++;
+
+                indexMap.put(e, x);
+
+                if (g > counts.length) {
+                    counts = Arrays.copyOf(counts, 2 * counts.length);
+                }
+            }
+
+            indexes[j - l] = x;
+            counts[x]++;
+        }
+
+        int[] starts = new int[g + 1];
+        starts[0] = l;
+
+        for (int x = 0; x < g; x++) {
+            starts[x + 1] = starts[x] + counts[x];
+        }
+
+        int[] positions = Arrays.copyOf(starts, g);
+
+        for (int j = l; j < r; j++) {
+            if (indexes[j - l] >= 0) {
+                buffer[positions[indexes[j - l]]++] = order[j];
+            }
+        }
+
+        System.arraycopy(buffer, l, order, l, starts[g] - l);
+
+        for (int x = 0; x < g; x++) {
+            Trie.Node<E, V> childNode = node.childNodeMap.get((E) keys[order[starts[x]]][depth]);
+
+            split(keys, vs, scores, order, buffer, starts[x], starts[x + 1], childNode, depth + 1, limit, groups);
+        }
+    }
+
+    private void set(Trie.Node<E, V> node, V[] vs, double[] scores, int k, Trie.Node<E, V> stopNode) {
+        if (vs == null && node.terminal) {
+            return;
+        }
+
+        V v = vs != null ? vs[k] : null;
+        double score = scores[k];
+
+        boolean lower = node.terminal && score < node.score;
+
+        node.terminal = true;
+        node.v = v;
+        node.score = score;
+
+        if (lower) {
+            node.update(stopNode);
+
+            return;
+        }
+
+        for (Trie.Node<E, V> x = node; x != stopNode && x.best < score; x = x.parentNode) {
+            x.best = score;
+        }
+    }
+
+    private void forEach(int g, IntConsumer consumer) {
+        if (pool != null) {
+            pool.submit(() -> IntStream.range(0, g).parallel().forEach(consumer)).join();
+        } else {
+            for (int i = 0; i < g; i++) {
+                consumer.accept(i);
+            }
+        }
+    }
+
+    private static class Group<E, V> {
+
+        private final Trie.Node<E, V> node;
+        private final int depth, l, r;
+
+        private Group(Trie.Node<E, V> node, int depth, int l, int r) {
+            this.node = node;
+            this.depth = depth;
+            this.l = l;
+            this.r = r;
+        }
+
+    }
+
+    private static class Example {
+
+        public static void main(String[] args) {
+            System.out.println("Trie Loader Example:");
+            System.out.println("");
+
+            Trie<Character, String> trie = new Trie<>();
+
+            TrieLoader<Character, String> trieLoader = new TrieLoader<>(trie, ForkJoinPool.commonPool());
+
+            ArrayList<String> keys = new ArrayList<>(Arrays.asList("abc", "ij", "ijk", "ijpq", "xyz"));
+
+            trieLoader.put(keys.iterator(), s -> {
+                Character[] e = new Character[s.length()];
+
+                for (int i = 0; i < e.length; i++) {
+                    e[i] = s.charAt(i);
+                }
+
+                return e;
+            }, s -> s, s -> s.length());
+
+            System.out.println("put(...):\n" + trie);
+            System.out.println("");
+
+            System.out.println("get(i, j, k): " + trie.get('i', 'j', 'k'));
+            System.out.println("");
+
+            System.out.println("topK(1, i): " + trie.topK(1, 'i').get(0).v);
+        }
+
+    }
+
+}